@@ -0,0 +1,73 @@
+package org.mbc.czo.benchmark;
+
+import org.mapstruct.factory.Mappers;
+import org.mbc.czo.function.boarduser.domain.Board;
+import org.mbc.czo.function.boarduser.dto.BoardDTO;
+import org.mbc.czo.function.boarduser.mapper.BoardMapper;
+import org.mbc.czo.function.common.config.RootConfig;
+import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.domain.Item;
+import org.mbc.czo.function.product.dto.ItemFormDto;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> DTO 변환 비용 비교: ModelMapper(RootConfig 설정 그대로) vs MapStruct vs 직접 작성
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private BoardMapper boardMapper;
+    private Board board;
+    private Item item;
+
+    @Setup
+    public void setup() {
+        modelMapper = new RootConfig().getMapper();
+        boardMapper = Mappers.getMapper(BoardMapper.class);
+
+        board = Board.builder().bno(1L).title("벤치마크 제목").content("내용".repeat(50))
+                .writer("user1").category("문의").build();
+
+        item = new Item();
+        item.setId(1L);
+        item.setItemNm("벤치마크 상품");
+        item.setPrice(12000);
+        item.setStockNumber(100);
+        item.setItemDetail("상세 설명".repeat(50));
+        item.setItemSellStatus(ItemSellStatus.SELL);
+    }
+
+    @Benchmark
+    public BoardDTO boardModelMapper() {
+        return modelMapper.map(board, BoardDTO.class);
+    }
+
+    @Benchmark
+    public BoardDTO boardMapStruct() {
+        return boardMapper.toDTO(board);
+    }
+
+    @Benchmark
+    public BoardDTO boardManual() {
+        return BoardDTO.builder().bno(board.getBno()).title(board.getTitle()).content(board.getContent())
+                .writer(board.getWriter()).category(board.getCategory())
+                .regDate(board.getRegDate()).modDate(board.getModDate()).build();
+    }
+
+    @Benchmark
+    public ItemFormDto itemModelMapper() {
+        return modelMapper.map(item, ItemFormDto.class);
+    }
+
+    @Benchmark
+    public ItemFormDto itemMapStruct() {
+        return ItemFormDto.of(item);
+    }
+}
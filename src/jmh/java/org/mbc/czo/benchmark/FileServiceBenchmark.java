@@ -0,0 +1,60 @@
+package org.mbc.czo.benchmark;
+
+import org.mbc.czo.function.product.service.FileService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 상품 이미지 업로드(FileService.uploadFile) 쓰기 처리량 - byte[] 버전과 스트림(임시파일 + 원자적 이동) 버전
+// 디스크가 차지 않도록 매 호출마다 저장한 파일을 지우므로 삭제 비용까지 포함된 수치
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileServiceBenchmark {
+
+    @Param({"65536", "1048576", "5242880"}) // 64KB, 1MB, 5MB
+    private int fileSize;
+
+    private FileService fileService;
+    private Path uploadDir;
+    private byte[] fileData;
+
+    @Setup
+    public void setup() throws IOException {
+        fileService = new FileService();
+        uploadDir = Files.createTempDirectory("jmh-upload");
+        fileData = new byte[fileSize];
+        new Random(42).nextBytes(fileData);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String uploadBytes() throws Exception {
+        String savedFileName = fileService.uploadFile(uploadDir.toString(), "image.jpg", fileData);
+        Files.delete(uploadDir.resolve(savedFileName));
+        return savedFileName;
+    }
+
+    @Benchmark
+    public String uploadStream() throws Exception {
+        String savedFileName = fileService.uploadFile(uploadDir.toString(), "image.jpg", new ByteArrayInputStream(fileData));
+        Files.delete(uploadDir.resolve(savedFileName));
+        return savedFileName;
+    }
+}
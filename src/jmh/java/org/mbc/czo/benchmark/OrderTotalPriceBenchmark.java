@@ -0,0 +1,38 @@
+package org.mbc.czo.benchmark;
+
+import org.mbc.czo.function.cart.domain.Order;
+import org.mbc.czo.function.cart.domain.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 주문 상품이 많은 주문의 총액 계산 (주문 내역/완료 화면에서 주문마다 호출)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderTotalPriceBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int orderItemCount;
+
+    private Order order;
+
+    @Setup
+    public void setup() {
+        order = new Order();
+        for (int i = 0; i < orderItemCount; i++) {
+            OrderItem orderItem = new OrderItem();
+            orderItem.setOrderPrice(1000 + i);
+            orderItem.setCount(1 + (i % 5));
+            order.addOrderItem(orderItem);
+        }
+    }
+
+    @Benchmark
+    public int totalPrice() {
+        return order.getTotalPrice();
+    }
+}
@@ -0,0 +1,64 @@
+package org.mbc.czo.benchmark;
+
+import org.mbc.czo.function.boardAdmin.dto.BoardAdminDTO;
+import org.mbc.czo.function.boardAdmin.dto.PageAdminRequestDTO;
+import org.mbc.czo.function.boardAdmin.dto.PageAdminResponseDTO;
+import org.mbc.czo.function.boarduser.dto.BoardDTO;
+import org.mbc.czo.function.boarduser.dto.PageRequestDTO;
+import org.mbc.czo.function.boarduser.dto.PageResponseDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 화면 페이징 DTO 생성 비용 (페이지 번호 계산 포함)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageResponseBenchmark {
+
+    @Param({"1", "500"})
+    private int page;
+
+    private PageRequestDTO pageRequestDTO;
+    private PageAdminRequestDTO pageAdminRequestDTO;
+    private List<BoardDTO> boardList;
+    private List<BoardAdminDTO> boardAdminList;
+
+    @Setup
+    public void setup() {
+        pageRequestDTO = PageRequestDTO.builder().page(page).size(10).build();
+        pageAdminRequestDTO = PageAdminRequestDTO.builder().page(page).size(10).build();
+
+        boardList = new ArrayList<>();
+        boardAdminList = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            boardList.add(BoardDTO.builder().bno(i).title("제목" + i).build());
+            boardAdminList.add(BoardAdminDTO.builder().bno(i).title("제목" + i).build());
+        }
+    }
+
+    @Benchmark
+    public PageResponseDTO<BoardDTO> pageResponse() {
+        return PageResponseDTO.<BoardDTO>withAll()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(boardList)
+                .total(200_000)
+                .build();
+    }
+
+    @Benchmark
+    public PageAdminResponseDTO<BoardAdminDTO> pageAdminResponse() {
+        PageAdminResponseDTO<BoardAdminDTO> responseDTO = PageAdminResponseDTO.<BoardAdminDTO>withAll()
+                .pageAdminRequestDTO(pageAdminRequestDTO)
+                .dtoList(boardAdminList)
+                .total(200_000)
+                .build();
+        responseDTO.makePageList(); // BoardAdminServiceImpl.list 와 동일하게 한 번 더 호출
+        return responseDTO;
+    }
+}
@@ -0,0 +1,122 @@
+package org.mbc.czo.function.product.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.constant.ItemSortType;
+import org.mbc.czo.function.product.domain.Item;
+import org.mbc.czo.function.product.domain.ItemImg;
+import org.mbc.czo.function.product.domain.QItem;
+import org.mbc.czo.function.product.dto.ItemSearchDto;
+import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.dto.MainItemSliceDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+// ItemRepositoryImpl 벤치마크 (H2 인메모리 DB를 MariaDB 대신 사용)
+// - toOrderSpecifiers: 정렬 조건 -> QueryDSL OrderSpecifier 변환 비용 (DB 미사용)
+// - offsetPage / seekPage: 메인 상품 목록 깊은 페이지 조회, OFFSET+COUNT 방식과 커서 방식 비교
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemQueryBenchmark {
+
+    private static final int ITEM_COUNT = 20_000;
+    private static final int PAGE_SIZE = 6;
+
+    @Param({"1", "500", "3000"})
+    private int page;
+
+    private SessionFactory sessionFactory;
+    private EntityManager em;
+    private ItemRepositoryImpl repository;
+    private ItemSearchDto searchDto;
+    private Sort sort;
+    private String cursor;
+
+    @Setup
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Item.class)
+                .addAnnotatedClass(ItemImg.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "500")
+                .buildSessionFactory();
+        em = sessionFactory.createEntityManager();
+        seed();
+
+        repository = new ItemRepositoryImpl(em, new Paginator(0)); // count 캐시 없이 매번 측정
+        searchDto = new ItemSearchDto();
+        searchDto.setSortBy("priceAsc");
+        sort = ItemSortType.PRICE_ASC.toSort();
+
+        // 커서 방식은 해당 깊이까지 미리 넘겨 두고 그 위치의 토큰으로 측정
+        cursor = null;
+        for (int i = 1; i < page; i++) {
+            cursor = repository.getMainItemSlice(searchDto, ItemSortType.PRICE_ASC, cursor, PAGE_SIZE).getNextCursor();
+        }
+    }
+
+    private void seed() {
+        em.getTransaction().begin();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = new Item();
+            item.setItemNm("상품" + i);
+            item.setPrice(1000 + (i % 500) * 100); // 같은 가격이 여러 개 -> id 보조 정렬 필요
+            item.setStockNumber(100);
+            item.setItemDetail("상세 설명 " + i);
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            em.persist(item);
+
+            ItemImg itemImg = new ItemImg();
+            itemImg.setItem(item);
+            itemImg.setRepimgYn("Y");
+            itemImg.setImgUrl("/images/item/" + i + ".jpg");
+            em.persist(itemImg);
+
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] toOrderSpecifiers() {
+        return repository.toOrderSpecifiers(sort, QItem.item);
+    }
+
+    @Benchmark
+    public Page<MainItemDto> offsetPage() {
+        Page<MainItemDto> result = repository.getMainItemPage(searchDto, PageRequest.of(page - 1, PAGE_SIZE, sort));
+        em.clear();
+        return result;
+    }
+
+    @Benchmark
+    public MainItemSliceDto seekPage() {
+        MainItemSliceDto result = repository.getMainItemSlice(searchDto, ItemSortType.PRICE_ASC, cursor, PAGE_SIZE);
+        em.clear();
+        return result;
+    }
+}
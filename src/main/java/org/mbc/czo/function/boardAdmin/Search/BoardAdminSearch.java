@@ -6,10 +6,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @Service
 
 public interface BoardAdminSearch {
     Page<BoardAdmin> search1(Pageable pageable);
 
     Page<BoardAdmin> searchAll1(String[] types, String keyword, Pageable pageable);  // 검색을 위한 메서드 선언
+
+    List<BoardAdmin> regularPosts(Long after, long offset, int limit);  // 공지 아닌 글 bno 내림차순 (after 가 있으면 키셋, 없으면 offset)
+
+    Map<Long, String> searchSnippets(String[] types, String keyword, Collection<Long> bnos);  // 검색 결과 내용 스니펫 (글 번호 -> HTML)
 }
@@ -1,17 +1,25 @@
 package org.mbc.czo.function.boardAdmin.Search;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.JPQLQuery;
 import lombok.RequiredArgsConstructor;
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 import org.mbc.czo.function.boardAdmin.domain.QBoardAdmin;
+import org.mbc.czo.function.common.paging.CountStrategy;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.common.search.TextSearchIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 @Service
 
@@ -20,8 +28,16 @@ public class BoardAdminSearchImpl extends QuerydslRepositorySupport implements B
         //                               상속                              임폴트
 
 
-        public BoardAdminSearchImpl() {  // 위에 필드 클릭하면 자동 생성
+        private static final CountStrategy COUNT_STRATEGY = CountStrategy.CACHED_APPROX;  // 같은 검색 조건의 count 는 잠깐 재사용
+        public static final String COUNT_KEY_PREFIX = "boardAdmin:";
+
+        private final BoardAdminSearchIndex boardAdminSearchIndex;  // 제목/내용/작성자 검색 인덱스
+        private final Paginator paginator;  // 페이지 조회 + count 방식
+
+        public BoardAdminSearchImpl(BoardAdminSearchIndex boardAdminSearchIndex, Paginator paginator) {  // 위에 필드 클릭하면 자동 생성
             super(BoardAdmin.class);
+            this.boardAdminSearchIndex = boardAdminSearchIndex;
+            this.paginator = paginator;
         }
 
         @Override
@@ -30,16 +46,35 @@ public class BoardAdminSearchImpl extends QuerydslRepositorySupport implements B
             QBoardAdmin boardAdmin = QBoardAdmin.boardAdmin;  // Q도메인 객체
             JPQLQuery<BoardAdmin> query = from(boardAdmin);
             query.where(boardAdmin.title.contains("1"));
-            List<BoardAdmin> list = query.fetch();
-            long count = query.fetchCount();
+            return paginator.page(query, pageable, CountStrategy.EXACT, null, countOf(boardAdmin, query));
+        }
 
-            return new PageImpl<>(list, pageable, count);
+    @Override
+    public List<BoardAdmin> regularPosts(Long after, long offset, int limit) {
+            // where notice = false [and bno < after] order by bno desc -> (notice, bno) 인덱스 순서 그대로, 정렬 없음
+            QBoardAdmin boardAdmin = QBoardAdmin.boardAdmin;
+            JPQLQuery<BoardAdmin> query = from(boardAdmin).where(boardAdmin.notice.isFalse());
+            if (after != null) {
+                query.where(boardAdmin.bno.lt(after));  // 키셋: 앞 페이지 마지막 글 다음부터 (offset 만큼 건너뛰지 않음)
+            } else if (offset > 0) {
+                query.offset(offset);
+            }
+            return query.orderBy(boardAdmin.bno.desc()).limit(limit).fetch();
         }
 
     @Override
     public Page<BoardAdmin> searchAll1(String[] types, String keyword, Pageable pageable) {  // 인터페이스에서 자동 생성
 
             QBoardAdmin boardAdmin = QBoardAdmin.boardAdmin;
+
+            List<Long> rankedIds = boardAdminSearchIndex.search(types, keyword);
+            if (rankedIds != null) {  // 검색 인덱스 결과가 있으면 점수순으로 해당 페이지 글만 조회
+                List<Long> pageIds = TextSearchIndex.pageOf(rankedIds, pageable);
+                List<BoardAdmin> list = pageIds.isEmpty() ? new ArrayList<>() : TextSearchIndex.inRankOrder(
+                        from(boardAdmin).where(boardAdmin.bno.in(pageIds)).fetch(), pageIds, BoardAdmin::getBno);
+                return new PageImpl<>(list, pageable, rankedIds.size());
+            }
+
             JPQLQuery<BoardAdmin> query = from(boardAdmin);
 
             if(types != null && types.length > 0 && keyword != null) {  // 검색 키워드와 조건이 있으면
@@ -62,10 +97,20 @@ public class BoardAdminSearchImpl extends QuerydslRepositorySupport implements B
             }  // 엔드 이프 종료
 
         query.where(boardAdmin.bno.gt(0L));
-            this.getQuerydsl().applyPagination(pageable, query);
-            List<BoardAdmin> list = query.fetch();
-            long count = query.fetchCount();
-        return new PageImpl<>(list, pageable, count);
+            this.getQuerydsl().applySorting(pageable.getSort(), query);  // 정렬만 여기서, offset/limit 는 paginator 가
+            String countKey = COUNT_KEY_PREFIX + (types == null ? "" : String.join(",", types)) + ":" + (keyword == null ? "" : keyword);
+        return paginator.page(query, pageable, COUNT_STRATEGY, countKey, countOf(boardAdmin, query));
+    }
+
+    // 데이터 쿼리와 같은 조건으로 개수만 세는 쿼리
+    private LongSupplier countOf(QBoardAdmin boardAdmin, JPQLQuery<?> query) {
+        Predicate where = query.getMetadata().getWhere();
+        return () -> from(boardAdmin).where(where).select(boardAdmin.count()).fetchOne();
+    }
+
+    @Override
+    public Map<Long, String> searchSnippets(String[] types, String keyword, Collection<Long> bnos) {
+        return boardAdminSearchIndex.snippets(types, keyword, bnos);
     }
 
 
@@ -1,5 +1,6 @@
 package org.mbc.czo.function.boardAdmin.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -10,7 +11,8 @@ import org.mbc.czo.function.boardAdmin.dto.PageAdminResponseDTO;
 import org.mbc.czo.function.boardAdmin.repository.BoardAdminRepository;
 import org.mbc.czo.function.boardAdmin.service.BoardAdminLikeService;
 import org.mbc.czo.function.boardAdmin.service.BoardAdminService;
-import org.springframework.data.domain.Page;
+import org.mbc.czo.function.common.counter.ViewCountBuffer;
+import org.mbc.czo.function.common.counter.ViewCountRepository.Target;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,6 +26,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Controller
@@ -35,26 +38,19 @@ public class BoardAdminController {
     private final BoardAdminService boardAdminService;
     private final BoardAdminRepository boardAdminRepository;
     private final BoardAdminLikeService boardAdminLikeService;
+    private final ViewCountBuffer viewCountBuffer;
 
     private PageAdminResponseDTO<BoardAdminDTO> getBoardList(PageAdminRequestDTO requestDTO ) {
-        Pageable pageable = PageRequest.of(
-                requestDTO.getPage() - 1,
-                requestDTO.getSize(),
-                Sort.by(Sort.Order.desc("notice"), Sort.Order.desc("bno"))  // 공지 박는 거 (번호 순서대로)
-        );
-        Page<BoardAdmin> result = boardAdminRepository.findAll(pageable);
-        List<BoardAdminDTO> dtoList = result.getContent().stream()
-                .map(BoardAdminDTO::new)
-                .collect(Collectors.toList());
-        return new PageAdminResponseDTO<BoardAdminDTO>(requestDTO, dtoList, (int)result.getTotalElements());
+        return boardAdminService.noticeFirstList(requestDTO);  // 공지 박는 거 (번호 순서대로)
     }
 
     public List<BoardAdminDTO> getBoardList1(String username) {
         List<BoardAdmin> boards = boardAdminRepository.findAll();
+        Set<Long> liked = boardAdminLikeService.findLikedBnos(
+                boards.stream().map(BoardAdmin::getBno).toList(), username);
         return boards.stream().map(board -> {
-            BoardAdminDTO dto = new BoardAdminDTO(board);
-            dto.setLiked(boardAdminLikeService.isLiked(board.getBno(), username));
-            dto.setLikeCount(boardAdminLikeService.countLikes(board));
+            BoardAdminDTO dto = new BoardAdminDTO(board); // 좋아요 수 포함
+            dto.setLiked(liked.contains(board.getBno()));
             return dto;
         }).collect(Collectors.toList());
     }
@@ -84,7 +80,9 @@ public class BoardAdminController {
         List<BoardAdminDTO> dtos = boardAdminService.getBoardList(pageable);
 
         String username = (user != null) ? user.getUsername() : null;
-        dtos.forEach(dto -> dto.setLiked(boardAdminLikeService.isLiked(dto.getBno(), username)));
+        Set<Long> liked = boardAdminLikeService.findLikedBnos(
+                dtos.stream().map(BoardAdminDTO::getBno).toList(), username); // 페이지 전체를 한 번에
+        dtos.forEach(dto -> dto.setLiked(liked.contains(dto.getBno())));
 
         model.addAttribute("dtoList", dtos);
         return "board/list";
@@ -115,13 +113,17 @@ public class BoardAdminController {
     @GetMapping("/read")
     public String read(@RequestParam(required=false, name = "bno") Long bno,
                        PageAdminRequestDTO pageAdminRequestDTO,
-                       Model model) {
+                       Model model, HttpServletRequest request) {
         if(bno == null) {
             // bno가 없으면 목록 페이지로 리다이렉트하거나 기본 처리
             return "redirect:/board/list";
         }
 
-        BoardAdminDTO boardAdminDTO = boardAdminService.readOne(bno);
+        BoardAdminDTO boardAdminDTO = boardAdminService.readOne(bno); // 없는 글이면 여기서 예외 -> 조회수 안 셈
+        // 조회수 (같은 사람 재조회는 제외, DB 반영은 모아서) - 글을 읽은 뒤에 세므로 화면 값에 이번 조회를 더해줌
+        if (viewCountBuffer.view(Target.BOARD_ADMIN, bno, request)) {
+            boardAdminDTO.setViewCount(boardAdminDTO.getViewCount() + 1);
+        }
         model.addAttribute("dto", boardAdminDTO);
         model.addAttribute("PageAdminRequestDTO", pageAdminRequestDTO);
 
@@ -129,8 +131,10 @@ public class BoardAdminController {
     }
 
     @GetMapping("/read/{bno}")
-    public String read(@PathVariable Long bno, Model model, PageAdminRequestDTO pageAdminRequestDTO) {
+    public String read(@PathVariable Long bno, Model model, PageAdminRequestDTO pageAdminRequestDTO,
+                       HttpServletRequest request) {
         BoardAdmin dto = boardAdminService.getBoard(bno);
+        viewCountBuffer.view(Target.BOARD_ADMIN, bno, request); // 글을 읽은 뒤에 셈 (없는 글은 위에서 예외)
         model.addAttribute("dto", dto);
         model.addAttribute("pageAdminRequestDTO", pageAdminRequestDTO);
         return "board/read";  // Thymeleaf 템플릿
@@ -3,6 +3,7 @@ package org.mbc.czo.function.boardAdmin.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.mbc.czo.function.common.entity.BaseAdminEntity;
 import org.mbc.czo.function.image.domain.BoardAdminImages;
 
@@ -10,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity  // 엔티티라는 뜻
+// 공지 먼저 목록(notice desc, bno desc)을 인덱스 순서대로 읽기 위한 복합 인덱스
+@Table(name = "board_admin", indexes = @Index(name = "idx_board_admin_notice_bno", columnList = "notice, bno"))
 @Getter
 @Setter
 @AllArgsConstructor  // 모든 필드 값으로 생성자 생성
@@ -31,10 +34,18 @@ public class BoardAdmin extends BaseAdminEntity {  // 부모 객체 상속
     @Column(length = 50, nullable = false)
     private String writer;  // 공지사항 게시물 작성자
 
+    // 조회 수 - ViewCountBuffer 가 모아서 원자적 UPDATE(+n)로만 바꾼다
+    // 게시글 수정 시 읽어 둔 옛 값으로 덮어쓰지 않도록 updatable = false
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
     private int viewCount;  // 조회 수
 
     private boolean notice;  // true이면 공지글 (공지 여부)
 
+    // 좋아요 수 - board_like 추가/삭제와 같은 트랜잭션에서 원자적 UPDATE(+1/-1)로만 바꾼다
+    // 게시글 수정 시 읽어 둔 옛 값으로 덮어쓰지 않도록 updatable = false
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
     private int likeCount;
 
     // 게시글 대표 이미지 매핑
@@ -46,10 +57,6 @@ public class BoardAdmin extends BaseAdminEntity {  // 부모 객체 상속
         this.content = content;  // 내용
     }
 
-    public void increaseViewCount() {  // 조회수 증가 메서드
-        this.viewCount++;
-    }
-
 
 }
 
@@ -5,6 +5,9 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(name = "board_like", uniqueConstraints = { // 한 사람당 게시글 하나에 좋아요 한 번 (insert ignore 로 중복 방지)
+        @UniqueConstraint(name = "uk_board_like_board_user", columnNames = {"board_id", "username"})
+})
 @Getter
 @Setter
 public class BoardLike {
@@ -16,6 +19,7 @@ public class BoardLike {
     @JoinColumn(name = "board_id") // FK 컬럼명 지정
     private BoardAdmin board;
 
+    @Column(nullable = false)
     private String username; // 좋아요 누른 사용자
 
     // 기본 생성자 필요
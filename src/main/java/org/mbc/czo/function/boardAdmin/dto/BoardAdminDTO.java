@@ -47,6 +47,8 @@ public class BoardAdminDTO {
     // 업로드 단계에서 받은 tempKey
     private String tempKey;
 
+    private String snippet; // 검색 결과 내용 스니펫 (검색어 <mark> 처리된 HTML)
+
     public BoardAdminDTO(BoardAdmin entity) {  // 생성자
         this.bno = entity.getBno();
         this.title = entity.getTitle();
@@ -55,6 +57,7 @@ public class BoardAdminDTO {
         this.modDate = entity.getModDate();
         this.viewCount = entity.getViewCount();
         this.notice = entity.isNotice();
+        this.likeCount = entity.getLikeCount();
     }
 
     }
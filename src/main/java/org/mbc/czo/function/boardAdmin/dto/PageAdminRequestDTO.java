@@ -43,6 +43,8 @@ public class PageAdminRequestDTO {
 
     private String keyword;  // 폼박스 내용
 
+    private Long after;  // 키셋 기준 - 앞 페이지의 마지막 일반글 bno (다음 페이지로 넘어갈 때만, 없으면 offset)
+
     private String link;  // 페이징 번호 처리시 문자열
     public String getLink(){
         if(link == null){
@@ -25,6 +25,8 @@ public class PageAdminResponseDTO<E> {
 
     private List<E> dtoList;
 
+    private Long nextAfter;  // 다음 페이지 요청 시 after 로 넘길 값 (이 페이지의 마지막 일반글 bno)
+
     private PageAdminRequestDTO pageAdminRequestDTO;
 
     @Builder(builderMethodName = "withAll")
@@ -0,0 +1,24 @@
+package org.mbc.czo.function.boardAdmin.mapper;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
+import org.mbc.czo.function.boardAdmin.dto.BoardAdminDTO;
+
+// BoardAdmin <-> BoardAdminDTO 변환
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface BoardAdminMapper {
+
+    @Mapping(target = "fileNames", ignore = true) // 이미지 url은 서비스에서 채움
+    @Mapping(target = "liked", ignore = true)     // 로그인 유저 기준이라 컨트롤러에서 채움
+    @Mapping(target = "tempKey", ignore = true)
+    BoardAdminDTO toDTO(BoardAdmin boardAdmin);
+
+    // 빌더를 쓰면 images 리스트가 null이 되므로 기본 생성자 + setter로 생성
+    @BeanMapping(builder = @Builder(disableBuilder = true))
+    @Mapping(target = "images", ignore = true)
+    BoardAdmin toEntity(BoardAdminDTO boardAdminDTO);
+}
@@ -3,9 +3,12 @@ package org.mbc.czo.function.boardAdmin.repository;
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 import org.mbc.czo.function.boardAdmin.domain.BoardLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BoardAdminLikeRepository extends JpaRepository<BoardLike, Long> {
@@ -19,6 +22,24 @@ public interface BoardAdminLikeRepository extends JpaRepository<BoardLike, Long>
     @Query("SELECT bl FROM BoardLike bl WHERE bl.board.bno = :boardId AND bl.username = :username")
     Optional<BoardLike> findByBoardBnoAndUsername(@Param("boardId") Long bno, @Param("username") String username);
 
+    // 좋아요 추가 - 이미 있으면(유니크 키 중복) 무시하고 0 반환. 게시글이 없어도(FK) 0
+    @Modifying
+    @Query(value = "insert ignore into board_like (board_id, username) values (:bno, :username)", nativeQuery = true)
+    int insertIgnore(@Param("bno") Long bno, @Param("username") String username);
+
+    // 좋아요 취소 - 지운 행 수 (없으면 0)
+    @Modifying
+    @Query("delete from BoardLike bl where bl.board.bno = :bno and bl.username = :username")
+    int deleteByBnoAndUsername(@Param("bno") Long bno, @Param("username") String username);
+
+    // 목록 한 페이지의 게시글 중 username 이 좋아요 누른 글 번호 (유니크 키 (board_id, username) 사용)
+    @Query("select bl.board.bno from BoardLike bl where bl.username = :username and bl.board.bno in :bnos")
+    List<Long> findLikedBnos(@Param("username") String username, @Param("bnos") Collection<Long> bnos);
+
+    // 게시글의 좋아요 누른 회원 목록 (Redis 좋아요 집합 채울 때)
+    @Query("select bl.username from BoardLike bl where bl.board.bno = :bno")
+    List<String> findUsernamesByBno(@Param("bno") Long bno);
+
 
 
 }
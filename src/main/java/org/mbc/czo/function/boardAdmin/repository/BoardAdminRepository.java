@@ -7,9 +7,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardAdminRepository extends JpaRepository<BoardAdmin, Long>, BoardAdminSearch {
@@ -24,9 +26,17 @@ public interface BoardAdminRepository extends JpaRepository<BoardAdmin, Long>, B
         // 날짜 변화해 주는 쿼리
     String getTime();
 
-    @Modifying  // 데이터베이스 변경시 쓰는 쿼리 (데이터베이스에 조회 수 추가해서)
-    @Query("update BoardAdmin b set b.viewCount = b.viewCount + 1 where b.bno = :bno")
-    void increaseViewCount(Long bno);
+    // 좋아요 수 +1 / -1 (행 잠금만 잡는 원자적 UPDATE, 좋아요 추가/삭제와 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("update BoardAdmin b set b.likeCount = b.likeCount + 1 where b.bno = :bno")
+    int increaseLikeCount(@Param("bno") Long bno);
+
+    @Modifying
+    @Query("update BoardAdmin b set b.likeCount = b.likeCount - 1 where b.bno = :bno and b.likeCount > 0")
+    int decreaseLikeCount(@Param("bno") Long bno);
+
+    @Query("select b.likeCount from BoardAdmin b where b.bno = :bno")
+    Optional<Integer> findLikeCount(@Param("bno") Long bno);
 
 
     @Query(value = "SELECT b FROM BoardAdmin b ORDER BY b.notice DESC, b.bno DESC",  // 공지 박는 쿼리
@@ -36,6 +46,13 @@ public interface BoardAdminRepository extends JpaRepository<BoardAdmin, Long>, B
     @Query("SELECT b FROM BoardAdmin b ORDER BY b.notice DESC, b.bno DESC")
     Page<BoardAdmin> findAllByNoticeFirst(Pageable pageable);  // 이것도 공지 박는 쿼리
 
+    // 공지 먼저 목록 - (notice, bno) 인덱스 범위만 읽음 (일반글은 BoardAdminSearch.regularPosts)
+    @Query("select b from BoardAdmin b where b.notice = true order by b.bno desc")
+    List<BoardAdmin> findNotices();  // 상단 고정 공지글 (BoardAdminNoticeCache)
+
+    @Query("select count(b) from BoardAdmin b where b.notice = false")
+    long countRegular();
+
     Long bno(Long bno);
 }
 
@@ -2,7 +2,9 @@ package org.mbc.czo.function.boardAdmin.service;
 
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 public interface BoardAdminLikeService {
 
@@ -10,5 +12,8 @@ public interface BoardAdminLikeService {
 
     boolean isLiked(Long bno, String username);
 
+    // 목록 한 페이지 분의 좋아요 여부를 한 번에 (Redis 파이프라인 1번 + 필요하면 bno IN 쿼리 1번)
+    Set<Long> findLikedBnos(Collection<Long> bnos, String username);
+
     int countLikes(BoardAdmin board);
 }
@@ -0,0 +1,79 @@
+package org.mbc.czo.function.boardAdmin.service;
+
+import org.mbc.czo.function.boardAdmin.dto.BoardAdminDTO;
+import org.mbc.czo.function.boardAdmin.repository.BoardAdminRepository;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 공지사항 목록 상단에 고정되는 공지글(notice = true) 캐시 (서버 메모리)
+// 공지글은 몇 개 안 되고 거의 안 바뀌므로 목록 요청마다 조회하지 않고 한 번 읽어 둔다.
+// 글 등록/수정/삭제 시 커밋 후 비우고, 다른 서버에서 바뀐 것은 board.notice-cache.ttl-seconds 후 다시 읽어서 반영
+// (조회수/좋아요 수도 그 주기로 갱신됨)
+@Component
+public class BoardAdminNoticeCache {
+
+    private final BoardAdminRepository boardAdminRepository;
+    private final long ttlMillis;
+
+    private final AtomicLong generation = new AtomicLong(); // 비울 때마다 +1 (비우기 전에 읽던 값은 저장하지 않음)
+    private volatile Snapshot snapshot;
+
+    public BoardAdminNoticeCache(BoardAdminRepository boardAdminRepository,
+                                 @Value("${board.notice-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.boardAdminRepository = boardAdminRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 공지글 목록 (bno 내림차순). 화면에서 liked 등을 바꿔도 캐시에 영향 없도록 매번 복사본
+    public List<BoardAdminDTO> getNotices() {
+        return current().notices.stream().map(BoardAdminNoticeCache::copy).toList();
+    }
+
+    // 글 등록/수정/삭제 - 트랜잭션 안이면 커밋 후
+    public void evict() {
+        TxCallbacks.afterCommit(this::clear);
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot cached = snapshot;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt > now) {
+            return cached;
+        }
+        long gen = generation.get();
+        // (notice, bno) 인덱스 범위만 읽음
+        List<BoardAdminDTO> notices = boardAdminRepository.findNotices().stream()
+                .map(BoardAdminDTO::new)
+                .toList();
+        Snapshot loaded = new Snapshot(notices, now + ttlMillis);
+        if (generation.get() == gen) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private static BoardAdminDTO copy(BoardAdminDTO dto) {
+        return BoardAdminDTO.builder()
+                .bno(dto.getBno())
+                .title(dto.getTitle())
+                .writer(dto.getWriter())
+                .regDate(dto.getRegDate())
+                .modDate(dto.getModDate())
+                .viewCount(dto.getViewCount())
+                .notice(dto.isNotice())
+                .likeCount(dto.getLikeCount())
+                .build();
+    }
+
+    private record Snapshot(List<BoardAdminDTO> notices, long expiresAt) {
+    }
+}
@@ -26,11 +26,13 @@ public interface BoardAdminService {
 
     BoardAdminDTO get(Long bno);  // 수정할 때 쓰는 서비스
 
-    BoardAdmin getBoard(Long bno);  // 조회 수 추가
+    BoardAdmin getBoard(Long bno);  // 상세 보기 (엔티티)
 
 
     List<BoardAdminDTO> getBoardList(Pageable pageable);
 
+    PageAdminResponseDTO<BoardAdminDTO> noticeFirstList(PageAdminRequestDTO pageAdminRequestDTO);  // 공지 먼저 목록 (공지는 캐시, 일반글은 키셋)
+
     void save(@Valid BoardAdminDTO boardAdminDTO);
 
 
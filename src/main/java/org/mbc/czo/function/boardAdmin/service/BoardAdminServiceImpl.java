@@ -3,19 +3,26 @@ package org.mbc.czo.function.boardAdmin.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.counter.ViewCountBuffer;
+import org.mbc.czo.function.common.counter.ViewCountRepository.Target;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.boardAdmin.Search.BoardAdminSearchImpl;
+import org.mbc.czo.function.boardAdmin.Search.BoardAdminSearchIndex;
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 import org.mbc.czo.function.boardAdmin.dto.BoardAdminDTO;
 import org.mbc.czo.function.boardAdmin.dto.PageAdminRequestDTO;
 import org.mbc.czo.function.boardAdmin.dto.PageAdminResponseDTO;
+import org.mbc.czo.function.boardAdmin.mapper.BoardAdminMapper;
 import org.mbc.czo.function.boardAdmin.repository.BoardAdminRepository;
 import org.mbc.czo.function.image.domain.BoardAdminImages;
 import org.mbc.czo.function.image.repository.BoardAdminImageJpaRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -26,16 +33,20 @@ import java.util.stream.Collectors;
 @Transactional
 public class BoardAdminServiceImpl implements BoardAdminService {
 
-    private final ModelMapper modelMapper;
+    private final BoardAdminMapper boardAdminMapper;
     private final BoardAdminRepository boardAdminRepository;
     private final BoardAdminImageJpaRepository boardAdminImageJpaRepository;
+    private final BoardAdminSearchIndex boardAdminSearchIndex;
+    private final Paginator paginator; // 목록 count 캐시
+    private final ViewCountBuffer viewCountBuffer; // 조회수 write-behind
+    private final BoardAdminNoticeCache boardAdminNoticeCache; // 상단 고정 공지글
 
     /*이현우 수정 */
     /*register는 게시글 등록 전 단계이므로 bno가 따로 없다. tempKey를 활용해 bno를 대체*/
     /*register가 완료되면 */
     @Override
     public Long register(BoardAdminDTO boardAdminDTO) {
-        BoardAdmin boardAdmin = modelMapper.map(boardAdminDTO, BoardAdmin.class);
+        BoardAdmin boardAdmin = boardAdminMapper.toEntity(boardAdminDTO);
 
         // tempKey 기반 이미지 연결
         String tempKey = boardAdminDTO.getTempKey();
@@ -54,6 +65,9 @@ public class BoardAdminServiceImpl implements BoardAdminService {
             boardAdminImageJpaRepository.saveAll(tempImages);
         }
         Long bno = boardAdminRepository.save(boardAdmin).getBno();
+        boardAdminSearchIndex.index(boardAdmin); // 검색 인덱스 반영 (커밋 후)
+        boardAdminNoticeCache.evict();
+        paginator.evictCounts(BoardAdminSearchImpl.COUNT_KEY_PREFIX); // 글 수가 바뀌었으니 캐시된 개수 버림
 
         return bno;
     }
@@ -65,12 +79,10 @@ public class BoardAdminServiceImpl implements BoardAdminService {
         BoardAdmin board = boardAdminRepository.findById(bno)
                 .orElseThrow(() -> new RuntimeException("Not found"));
 
-        // 조회수 증가
-        board.increaseViewCount();  // 엔티티 메서드
-        boardAdminRepository.save(board); // DB 반영
-
-        // DTO 변환
-        BoardAdminDTO boardAdminDTO = modelMapper.map(board, BoardAdminDTO.class);
+        // DTO 변환 (조회수 증가는 컨트롤러에서 ViewCountBuffer 로 - 여기서는 읽기만)
+        BoardAdminDTO boardAdminDTO = boardAdminMapper.toDTO(board);
+        boardAdminDTO.setViewCount(board.getViewCount()
+                + (int) viewCountBuffer.pending(Target.BOARD_ADMIN, bno)); // 아직 DB에 반영 안 된 조회수 포함
 
         // 엔티티 images → DTO fileNames 변환
         List<String> imageUrls = board.getImages()
@@ -105,6 +117,8 @@ public class BoardAdminServiceImpl implements BoardAdminService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 글이 없습니다 bno=" + dto.getBno()));
         entity.change(dto.getTitle(), dto.getContent());
         boardAdminRepository.save(entity); // JPA는 save로 update
+        boardAdminSearchIndex.index(entity);
+        boardAdminNoticeCache.evict();
     }
 
 
@@ -112,6 +126,9 @@ public class BoardAdminServiceImpl implements BoardAdminService {
     @Override
     public void remove(Long bno) {
         boardAdminRepository.deleteById(bno);
+        boardAdminSearchIndex.delete(bno);
+        boardAdminNoticeCache.evict();
+        paginator.evictCounts(BoardAdminSearchImpl.COUNT_KEY_PREFIX);
     }
 
 
@@ -125,13 +142,14 @@ public class BoardAdminServiceImpl implements BoardAdminService {
         Page<BoardAdmin> result = boardAdminRepository.searchAll1(types, keyword, pageable);
 
         List<BoardAdminDTO> dtoList = result.getContent().stream()
-                .map(boardAdmin -> {
-                    BoardAdminDTO dto = modelMapper.map(boardAdmin, BoardAdminDTO.class);
-                    dto.setViewCount(boardAdmin.getViewCount());
-                    return dto;
-                })
+                .map(boardAdminMapper::toDTO)
                 .collect(Collectors.toList());
 
+        // 검색 중이면 내용 스니펫 (검색 인덱스를 못 쓰면 빈 Map)
+        Map<Long, String> snippets = boardAdminRepository.searchSnippets(types, keyword,
+                dtoList.stream().map(BoardAdminDTO::getBno).collect(Collectors.toList()));
+        dtoList.forEach(dto -> dto.setSnippet(snippets.get(dto.getBno())));
+
         PageAdminResponseDTO<BoardAdminDTO> responseDTO = PageAdminResponseDTO.<BoardAdminDTO>withAll()
                 .pageAdminRequestDTO(pageAdminRequestDTO)
                 .dtoList(dtoList)
@@ -145,33 +163,51 @@ public class BoardAdminServiceImpl implements BoardAdminService {
 
     @Override
     public BoardAdmin getBoard(Long bno) {
-        // 조회수 증가
-        boardAdminRepository.increaseViewCount(bno);
-
-        // DB 반영 후 엔티티 다시 조회
+        // 조회수 증가는 컨트롤러에서 ViewCountBuffer 로
         return boardAdminRepository.findById(bno)
                 .orElseThrow(() -> new RuntimeException("게시글이 없습니다."));
     }
 
     @Override
     public List<BoardAdminDTO> getBoardList(Pageable pageable) {
-        Page<BoardAdmin> pageResult = boardAdminRepository.findAll(pageable);
-
-        // BoardAdmin -> BoardAdminDTO 변환
-        List<BoardAdminDTO> dtoList = pageResult.stream()
-                .map(board -> {
-                    BoardAdminDTO dto = new BoardAdminDTO();
-                    dto.setBno(board.getBno());
-                    dto.setTitle(board.getTitle());
-                    dto.setWriter(board.getWriter());
-                    dto.setRegDate(board.getRegDate());
-                    dto.setViewCount(board.getViewCount());
-                    // likeCount나 liked는 컨트롤러에서 처리
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 공지 먼저, 번호 내림차순 (liked는 컨트롤러에서 처리 - findLikedBnos 로 한 번에)
+        return noticeFirstRows(boardAdminNoticeCache.getNotices(), pageable.getOffset(), pageable.getPageSize(), null);
+    }
+
+    @Override
+    public PageAdminResponseDTO<BoardAdminDTO> noticeFirstList(PageAdminRequestDTO pageAdminRequestDTO) {
+        int size = Math.max(pageAdminRequestDTO.getSize(), 1);
+        long offset = (long) (Math.max(pageAdminRequestDTO.getPage(), 1) - 1) * size;
+
+        List<BoardAdminDTO> notices = boardAdminNoticeCache.getNotices();
+        List<BoardAdminDTO> dtoList = noticeFirstRows(notices, offset, size, pageAdminRequestDTO.getAfter());
+        long regularCount = paginator.cachedCount(BoardAdminSearchImpl.COUNT_KEY_PREFIX + "regular",
+                boardAdminRepository::countRegular); // 글 등록/삭제 시 evictCounts 로 같이 비워짐
+
+        PageAdminResponseDTO<BoardAdminDTO> responseDTO =
+                new PageAdminResponseDTO<>(pageAdminRequestDTO, dtoList, (int) (notices.size() + regularCount));
+        if (dtoList.size() == size && !dtoList.get(size - 1).isNotice()) {
+            responseDTO.setNextAfter(dtoList.get(size - 1).getBno());
+        }
+        return responseDTO;
+    }
 
-        return dtoList;
+    // 공지 먼저 목록의 offset 위치부터 size 개: 공지글(캐시)이 남아 있으면 그것부터, 나머지는 일반글
+    // after(앞 페이지 마지막 일반글 bno)가 있으면 일반글은 키셋으로 읽어서 깊은 페이지도 건너뛰는 행 없이 조회
+    private List<BoardAdminDTO> noticeFirstRows(List<BoardAdminDTO> notices, long offset, int size, Long after) {
+        List<BoardAdminDTO> rows = new ArrayList<>();
+        if (offset < notices.size()) {
+            rows.addAll(notices.subList((int) offset, (int) Math.min(offset + size, notices.size())));
+        }
+        int remaining = size - rows.size();
+        if (remaining == 0) {
+            return rows;
+        }
+        List<BoardAdmin> regular = rows.isEmpty()
+                ? boardAdminRepository.regularPosts(after, offset - notices.size(), remaining)
+                : boardAdminRepository.regularPosts(null, 0, remaining); // 이 페이지에서 공지가 끝남 -> 일반글 처음부터
+        regular.forEach(board -> rows.add(new BoardAdminDTO(board)));
+        return rows;
     }
 
     @Override
@@ -179,6 +215,9 @@ public class BoardAdminServiceImpl implements BoardAdminService {
         // dto는 여기서만 유효함
         BoardAdmin entity = dtoToEntity(dto);
         boardAdminRepository.save(entity);
+        boardAdminSearchIndex.index(entity);
+        boardAdminNoticeCache.evict();
+        paginator.evictCounts(BoardAdminSearchImpl.COUNT_KEY_PREFIX);
     }
 
     // dto를 entity로 변환
@@ -0,0 +1,151 @@
+package org.mbc.czo.function.boardAdmin.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.boardAdmin.repository.BoardAdminLikeRepository;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 공지사항 좋아요 여부 캐시 (Redis 집합)
+// board:like:{bno} = 좋아요 누른 username 집합. 처음 조회할 때 board_like 에서 한 번 채우고(빈 집합 표시용 "" 포함),
+// 이후 좋아요/취소는 커밋 후 SADD/SREM 으로 반영 -> 좋아요 여부 확인은 SISMEMBER 한 번 (목록은 파이프라인 한 번).
+// board:like:ver:{bno} 는 좋아요/취소마다 +1 되는 버전. 채우는 동안 버전이 바뀌었으면(DB 를 읽은 뒤 다른 요청이 커밋) 채우지 않는다.
+// 집합은 board.like-cache.ttl-seconds 후 사라지고 다음 조회 때 다시 채워진다 (그래도 어긋난 값이 남으면 그때 바로잡힘).
+// Redis 장애 시에는 null 을 돌려주고 호출한 쪽이 DB 로 확인한다.
+@Log4j2
+@Component
+public class BoardLikeCache {
+
+    private static final String KEY = "board:like:";
+    private static final String VERSION_KEY = "board:like:ver:";
+    private static final String LOADED = ""; // 좋아요가 하나도 없는 게시글도 "채워짐"으로 표시
+
+    // 버전 +1, 집합이 있을 때만 추가/삭제 (없으면 다음 조회 때 DB 에서 채움)
+    // KEYS = 집합, 버전 / ARGV = 1(좋아요) 또는 0(취소), username, TTL 초
+    private static final RedisScript<Long> UPDATE_IF_LOADED = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "if ARGV[1] == '1' then return redis.call('SADD', KEYS[1], ARGV[2]) end " +
+            "return redis.call('SREM', KEYS[1], ARGV[2])", Long.class);
+
+    // DB 를 읽기 전의 버전 그대로일 때만 집합을 통째로 채우고 TTL 설정 (한 번에)
+    // KEYS = 집합, 버전 / ARGV = 읽기 전 버전(없으면 ""), TTL 초, 멤버들 (unpack 한도 때문에 1000개씩 SADD)
+    private static final RedisScript<Long> LOAD_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 1000 do " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoardAdminLikeRepository boardAdminLikeRepository;
+    private final Duration ttl;
+
+    public BoardLikeCache(StringRedisTemplate redisTemplate,
+                          BoardAdminLikeRepository boardAdminLikeRepository,
+                          @Value("${board.like-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.boardAdminLikeRepository = boardAdminLikeRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    // 좋아요 여부. Redis 를 못 쓰면 null
+    public Boolean isLiked(Long bno, String username) {
+        String key = KEY + bno;
+        try {
+            Boolean member = redisTemplate.opsForSet().isMember(key, username);
+            if (Boolean.TRUE.equals(member)) {
+                return true;
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return false;
+            }
+            return load(key, bno).contains(username);
+        } catch (RuntimeException e) {
+            log.warn("board like cache read failed - bno={}: {}", bno, e.getMessage());
+            return null;
+        }
+    }
+
+    // 여러 게시글의 좋아요 여부를 파이프라인 한 번으로. 집합이 아직 없는 게시글은 결과에서 빠짐, Redis 를 못 쓰면 null
+    public Map<Long, Boolean> likedFlags(Collection<Long> bnos, String username) {
+        List<Long> ordered = new ArrayList<>(bnos);
+        try {
+            List<Object> replies = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = operations;
+                    for (Long bno : ordered) {
+                        ops.opsForSet().isMember(KEY + bno, username);
+                        ops.hasKey(KEY + bno);
+                    }
+                    return null;
+                }
+            });
+            Map<Long, Boolean> flags = new HashMap<>();
+            for (int i = 0; i < ordered.size(); i++) {
+                boolean member = Boolean.TRUE.equals(replies.get(i * 2));
+                boolean loaded = Boolean.TRUE.equals(replies.get(i * 2 + 1));
+                if (member || loaded) {
+                    flags.put(ordered.get(i), member);
+                }
+            }
+            return flags;
+        } catch (RuntimeException e) {
+            log.warn("board like cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 좋아요/취소 반영 - 트랜잭션 안이면 커밋 후
+    public void update(Long bno, String username, boolean liked) {
+        Runnable apply = () -> {
+            try {
+                redisTemplate.execute(UPDATE_IF_LOADED, List.of(KEY + bno, VERSION_KEY + bno),
+                        liked ? "1" : "0", username, String.valueOf(ttl.getSeconds()));
+            } catch (RuntimeException e) {
+                // 반영 실패 시 옛 값이 남지 않도록 집합을 지움 -> 다음 조회 때 DB 에서 다시 채움
+                log.warn("board like cache update failed - bno={}: {}", bno, e.getMessage());
+                evict(bno);
+            }
+        };
+        TxCallbacks.afterCommit(apply);
+    }
+
+    public void evict(Long bno) {
+        try {
+            redisTemplate.delete(KEY + bno);
+        } catch (RuntimeException e) {
+            log.warn("board like cache evict failed - bno={}: {}", bno, e.getMessage());
+        }
+    }
+
+    private List<String> load(String key, Long bno) {
+        String versionKey = VERSION_KEY + bno;
+        String version = redisTemplate.opsForValue().get(versionKey);
+        List<String> usernames = boardAdminLikeRepository.findUsernamesByBno(bno);
+        List<String> args = new ArrayList<>(usernames.size() + 3);
+        args.add(version == null ? "" : version);
+        args.add(String.valueOf(ttl.getSeconds()));
+        args.add(LOADED);
+        args.addAll(usernames);
+        redisTemplate.execute(LOAD_IF_UNCHANGED, List.of(key, versionKey), args.toArray());
+        return usernames;
+    }
+}
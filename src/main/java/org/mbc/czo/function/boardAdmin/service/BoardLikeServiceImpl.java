@@ -1,51 +1,60 @@
 package org.mbc.czo.function.boardAdmin.service;
 
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
-import org.mbc.czo.function.boardAdmin.domain.BoardLike;
 import org.mbc.czo.function.boardAdmin.repository.BoardAdminLikeRepository;
 import org.mbc.czo.function.boardAdmin.repository.BoardAdminRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class BoardLikeServiceImpl implements BoardAdminLikeService {
 
     private final BoardAdminRepository boardAdminRepository;
     private final BoardAdminLikeRepository boardAdminLikeRepository;
+    private final BoardLikeCache boardLikeCache;
 
-    public BoardLikeServiceImpl(BoardAdminRepository boardAdminRepository, BoardAdminLikeRepository boardAdminLikeRepository) {
+    public BoardLikeServiceImpl(BoardAdminRepository boardAdminRepository, BoardAdminLikeRepository boardAdminLikeRepository,
+                                BoardLikeCache boardLikeCache) {
         this.boardAdminRepository = boardAdminRepository;
         this.boardAdminLikeRepository = boardAdminLikeRepository;
+        this.boardLikeCache = boardLikeCache;
     }
 
+    // 좋아요 토글 - board_like 추가/삭제 후 지운/넣은 행 수만큼 likeCount 를 원자적으로 +1/-1
+    // (board, username) 유니크 키 + insert ignore 라서 동시에 눌러도 중복 행/카운트 누락이 없다.
+    // 먼저 Redis 에서 본 좋아요 여부로 delete/insert 중 맞을 가능성이 높은 쪽부터 실행 (틀리면 0행 -> 다른 쪽 실행)
     @Override
     @Transactional
     public Map<String, Object> toggleLike(Long boardId, String username) {
 
-        BoardAdmin board = boardAdminRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException("게시글이 없습니다"));
-
-        Optional<BoardLike> existing = boardAdminLikeRepository.findByBoardBnoAndUsername(boardId, username);
+        Boolean cached = boardLikeCache.isLiked(boardId, username);
         boolean liked;
 
-        if(existing.isPresent()) {
-            boardAdminLikeRepository.delete(existing.get());
+        if (Boolean.FALSE.equals(cached) && boardAdminLikeRepository.insertIgnore(boardId, username) == 1) {
+            boardAdminRepository.increaseLikeCount(boardId);
+            liked = true;
+        } else if (boardAdminLikeRepository.deleteByBnoAndUsername(boardId, username) == 1) {
+            boardAdminRepository.decreaseLikeCount(boardId);
             liked = false;
-        } else {
-            BoardLike like = new BoardLike();
-            like.setBoard(board);
-            like.setUsername(username);
-            boardAdminLikeRepository.save(like);
+        } else if (boardAdminLikeRepository.insertIgnore(boardId, username) == 1) {
+            boardAdminRepository.increaseLikeCount(boardId);
             liked = true;
+        } else {
+            // 게시글이 없거나(FK 로 insert 무시), 다른 요청이 방금 같은 좋아요를 넣음
+            liked = boardAdminLikeRepository.findByBoardBnoAndUsername(boardId, username).isPresent();
         }
 
-        int likeCount = boardAdminLikeRepository.countByBoard(board);
-        board.setLikeCount(likeCount);
-        boardAdminRepository.save(board);
+        int likeCount = boardAdminRepository.findLikeCount(boardId)
+                .orElseThrow(() -> new RuntimeException("게시글이 없습니다"));
+        boardLikeCache.update(boardId, username, liked);
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
@@ -57,11 +66,41 @@ public class BoardLikeServiceImpl implements BoardAdminLikeService {
 
     @Override
     public boolean isLiked(Long bno, String username) {
+        if (username == null) {
+            return false;
+        }
+        Boolean cached = boardLikeCache.isLiked(bno, username);
+        if (cached != null) {
+            return cached;
+        }
         return boardAdminLikeRepository.findByBoardBnoAndUsername(bno, username).isPresent();
     }
 
+    @Override
+    public Set<Long> findLikedBnos(Collection<Long> bnos, String username) {
+        if (username == null || bnos.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> liked = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        Map<Long, Boolean> cached = boardLikeCache.likedFlags(bnos, username);
+        for (Long bno : bnos) {
+            Boolean flag = cached == null ? null : cached.get(bno);
+            if (flag == null) {
+                unknown.add(bno); // Redis 에 아직 없는 게시글 -> DB
+            } else if (flag) {
+                liked.add(bno);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            liked.addAll(boardAdminLikeRepository.findLikedBnos(username, unknown));
+        }
+        return liked;
+    }
+
+    // 좋아요 수는 board_admin.like_count (좋아요 추가/취소 때 같이 갱신)
     @Override
     public int countLikes(BoardAdmin board) {
-        return boardAdminLikeRepository.countByBoard(board);
+        return board.getLikeCount();
     }
 }
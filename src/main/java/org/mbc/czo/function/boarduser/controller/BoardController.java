@@ -1,20 +1,19 @@
 package org.mbc.czo.function.boarduser.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 import org.mbc.czo.function.boardAdmin.dto.BoardAdminDTO;
 import org.mbc.czo.function.boardAdmin.dto.PageAdminRequestDTO;
-import org.mbc.czo.function.boarduser.domain.Board;
 import org.mbc.czo.function.boarduser.dto.BoardAllList;
 import org.mbc.czo.function.boarduser.dto.BoardDTO;
 import org.mbc.czo.function.boarduser.dto.PageRequestDTO;
 import org.mbc.czo.function.boarduser.dto.PageResponseDTO;
-import org.mbc.czo.function.boarduser.repository.BoardRepository;
 import org.mbc.czo.function.boarduser.service.BoardService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.mbc.czo.function.common.counter.ViewCountBuffer;
+import org.mbc.czo.function.common.counter.ViewCountRepository.Target;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -31,10 +30,10 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class BoardController {
 
     private final BoardService boardService;
-    private final BoardRepository boardRepository;
+    private final ViewCountBuffer viewCountBuffer;
 
     @GetMapping("/userList")
-    public void userList(PageRequestDTO pageRequestDTO, Model model, Pageable pageable) {
+    public void userList(PageRequestDTO pageRequestDTO, Model model) {
 
         //PageResponseDTO<BoardDTO> responseDTO1 = boardService.list(pageRequestDTO);
 
@@ -43,7 +42,6 @@ public class BoardController {
 
            log.info(responseDTO1);
 
-        Page<Board> result = boardRepository.findAllOrderByNotice(pageable);
         model.addAttribute("responseDTO1", responseDTO1);
         model.addAttribute("dtoList", responseDTO1.getDtoList());
         model.addAttribute("pageRequestDTO", pageRequestDTO);
@@ -73,13 +71,17 @@ public class BoardController {
     @GetMapping("/userRead")
     public String userRead(@RequestParam(required=false) Long bno,
                        PageRequestDTO pageRequestDTO,
-                       Model model) {
+                       Model model, HttpServletRequest request) {
         if (bno == null) {
             // bno가 없으면 목록 페이지로 리다이렉트하거나 기본 처리
             return "redirect:/board/userList";
         }
 
-        BoardDTO boardDTO = boardService.readOne(bno);
+        BoardDTO boardDTO = boardService.readOne(bno); // 없는 글이면 여기서 예외 -> 조회수 안 셈
+        // 조회수 (같은 사람 재조회는 제외, DB 반영은 모아서) - 글을 읽은 뒤에 세므로 화면 값에 이번 조회를 더해줌
+        if (viewCountBuffer.view(Target.BOARD, bno, request)) {
+            boardDTO.setViewCount(boardDTO.getViewCount() + 1);
+        }
         model.addAttribute("dto", boardDTO);
         model.addAttribute("PageRequestDTO", pageRequestDTO);
 
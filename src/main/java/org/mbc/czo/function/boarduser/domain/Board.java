@@ -2,6 +2,7 @@ package org.mbc.czo.function.boarduser.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.mbc.czo.function.common.entity.BaseAdminEntity;
 
 import java.time.LocalDateTime;
@@ -33,6 +34,20 @@ public class Board extends BaseAdminEntity {
     @Column
     private String category;
 
+    // 댓글 수 (댓글 등록/삭제 시 같은 트랜잭션에서 +1/-1, ReplyCountRepairJob 이 주기적으로 실제 개수와 맞춤)
+    // 목록 조회에서 reply join + group by 를 없애기 위한 비정규화 컬럼
+    // 글 수정 시 엔티티 UPDATE 가 읽어둔 옛 값으로 덮어쓰지 않도록 updatable = false (변경은 update 쿼리로만)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long replyCount = 0;
+
+    // 조회 수 - ViewCountBuffer 가 모아서 update 쿼리(+n)로만 반영
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int viewCount = 0;
+
 
 
     @OneToMany(mappedBy = "board", cascade = CascadeType.REMOVE, orphanRemoval = true) // 문의글이 사라지면 답변도 모두 삭제
@@ -21,5 +21,6 @@ public class BoardAllList {
     private Long replyCount;
     private int viewCount;
     private String category;
+    private String snippet; // 검색 결과 내용 스니펫 (검색어 <mark> 처리된 HTML)
    // private List<BoardImageDTO> boardImages;
 }
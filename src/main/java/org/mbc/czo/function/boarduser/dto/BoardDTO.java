@@ -39,6 +39,8 @@ public class BoardDTO {
 
     private String category;
 
+    private String snippet; // 검색 결과 내용 스니펫 (검색어 <mark> 처리된 HTML)
+
     //private int replyCount;
 
 }
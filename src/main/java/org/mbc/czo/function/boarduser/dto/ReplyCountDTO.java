@@ -13,4 +13,6 @@ public class ReplyCountDTO {
     private LocalDateTime regDate;
 
     private Long replyCount;
+
+    private String snippet; // 검색 결과 내용 스니펫 (검색어 <mark> 처리된 HTML)
 }
@@ -0,0 +1,18 @@
+package org.mbc.czo.function.boarduser.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mbc.czo.function.boarduser.domain.Board;
+import org.mbc.czo.function.boarduser.dto.BoardDTO;
+
+// Board <-> BoardDTO 변환 (MapStruct가 컴파일 시 구현 클래스를 생성 -> 리플렉션 없이 getter/setter 직접 호출)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface BoardMapper {
+
+    @Mapping(target = "fileNames", ignore = true)
+    BoardDTO toDTO(Board board);
+
+    @Mapping(target = "answerList", ignore = true)
+    Board toEntity(BoardDTO boardDTO);
+}
@@ -0,0 +1,29 @@
+package org.mbc.czo.function.boarduser.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mbc.czo.function.boarduser.domain.Board;
+import org.mbc.czo.function.boarduser.domain.Reply;
+import org.mbc.czo.function.boarduser.dto.ReplyDTO;
+
+// Reply <-> ReplyDTO 변환
+// dto와 엔티티의 필드명이 달라서(replytext/replyText, bno/board.bno, regDate/createdAt) 직접 지정
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReplyMapper {
+
+    @Mapping(target = "bno", source = "board.bno")
+    @Mapping(target = "replytext", source = "replyText")
+    @Mapping(target = "regDate", source = "createdAt")
+    @Mapping(target = "modDate", source = "modifiedAt")
+    ReplyDTO toDTO(Reply reply);
+
+    @Mapping(target = "board", source = "bno")
+    @Mapping(target = "replyText", source = "replytext")
+    Reply toEntity(ReplyDTO replyDTO);
+
+    // 게시글 번호만 가진 Board (댓글 저장 시 FK용, 별도 조회 없음)
+    default Board boardOf(Long bno) {
+        return bno == null ? null : Board.builder().bno(bno).build();
+    }
+}
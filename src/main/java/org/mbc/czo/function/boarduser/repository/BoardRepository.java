@@ -8,8 +8,11 @@ import org.mbc.czo.function.boarduser.search.BoardSearch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardSearch {
@@ -24,6 +27,23 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardSearch
     @Query(value = "select now()", nativeQuery = true)
     String getTime();
 
-    @Query("SELECT b FROM Board b ORDER BY b.bno DESC, b.regDate DESC")
-    Page<Board> findAllOrderByNotice(Pageable pageable);
+    // 댓글 수 +1 / -1 (행 잠금만 잡는 원자적 UPDATE, 댓글 저장/삭제와 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("update Board b set b.replyCount = b.replyCount + 1 where b.bno = :bno")
+    int increaseReplyCount(@Param("bno") Long bno);
+
+    @Modifying
+    @Query("update Board b set b.replyCount = b.replyCount - 1 where b.bno = :bno and b.replyCount > 0")
+    int decreaseReplyCount(@Param("bno") Long bno);
+
+    // (after, upTo] 구간 게시글의 댓글 수를 실제 댓글 개수로 맞춤 - 어긋난 행만 갱신
+    @Transactional
+    @Modifying
+    @Query("update Board b set b.replyCount = (select count(r) from Reply r where r.board = b) " +
+            "where b.bno > :after and b.bno <= :upTo " +
+            "and b.replyCount <> (select count(r2) from Reply r2 where r2.board = b)")
+    int repairReplyCounts(@Param("after") Long after, @Param("upTo") Long upTo);
+
+    @Query("select coalesce(max(b.bno), 0) from Board b")
+    Long findMaxBno();
 }
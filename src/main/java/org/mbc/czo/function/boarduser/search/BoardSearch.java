@@ -7,6 +7,9 @@ import org.mbc.czo.function.boarduser.dto.ReplyCountDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface BoardSearch {
 
     Page<Board> search(Pageable pageable);
@@ -16,4 +19,7 @@ public interface BoardSearch {
     Page<ReplyCountDTO> searchWithReplyCount(String[] types, String keyword, Pageable pageable);
 
     Page<BoardAllList> searchWithAll(String[] types, String keyword, Pageable pageable);
+
+    // 검색 결과 화면용 내용 스니펫 (글 번호 -> 검색어를 <mark>로 감싼 HTML). 검색 인덱스를 못 쓰면 빈 Map
+    Map<Long, String> searchSnippets(String[] types, String keyword, Collection<Long> bnos);
 }
@@ -3,28 +3,43 @@ package org.mbc.czo.function.boarduser.search;
 //1
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
-import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 import org.mbc.czo.function.boarduser.domain.Board;
 import org.mbc.czo.function.boarduser.domain.QBoard;
-import org.mbc.czo.function.boarduser.domain.QReply;
 import org.mbc.czo.function.boarduser.dto.BoardAllList;
 import org.mbc.czo.function.boarduser.dto.ReplyCountDTO;
+import org.mbc.czo.function.common.paging.CountStrategy;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.common.search.TextSearchIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
 public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardSearch {
-    public BoardSearchImpl() {
+
+    // 게시판 목록은 COUNT(댓글 join 없이도) 가 데이터 조회보다 비싸서 같은 조건이면 잠깐 재사용
+    private static final CountStrategy COUNT_STRATEGY = CountStrategy.CACHED_APPROX;
+    public static final String COUNT_KEY_PREFIX = "board:";
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final Paginator paginator;
+
+    public BoardSearchImpl(BoardSearchIndex boardSearchIndex, Paginator paginator) {
         super(Board.class);
+        this.boardSearchIndex = boardSearchIndex;
+        this.paginator = paginator;
     }
 
     @Override
@@ -34,16 +49,23 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
         JPQLQuery<Board> query = from(board);
         query.where(board.title.contains("1"));
 
-        List<Board> list = query.fetch(); //board결과를 리스트로 받음
-        long count = query.fetchCount(); //count쿼리 실행
-
-        return new PageImpl<>(list, pageable, count);
+        // 해당 페이지만 조회 + 정확한 count
+        return paginator.page(query, pageable, CountStrategy.EXACT, null, countOf(board, query));
     }
 
     @Override
     public Page<Board> searchAll(String[] types, String keyword, Pageable pageable) {
 
         QBoard board = QBoard.board ;
+
+        List<Long> rankedIds = boardSearchIndex.search(types, keyword);
+        if (rankedIds != null) { // 검색 인덱스 결과 -> 점수순으로 해당 페이지 글만 조회
+            List<Long> pageIds = TextSearchIndex.pageOf(rankedIds, pageable);
+            List<Board> list = pageIds.isEmpty() ? new ArrayList<>() : TextSearchIndex.inRankOrder(
+                    from(board).where(board.bno.in(pageIds)).fetch(), pageIds, Board::getBno);
+            return new PageImpl<>(list, pageable, rankedIds.size());
+        }
+
         JPQLQuery<Board> query = from(board);
 
         if( (types != null && types. length >0) && keyword != null ){
@@ -70,21 +92,35 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
         }
 
         query.where(board.bno.gt(0L));
-        this.getQuerydsl().applyPagination(pageable, query);
-        List<Board> list = query.fetch();
-        long count = query.fetchCount();
-        return new PageImpl<>(list, pageable, count);
+        this.getQuerydsl().applySorting(pageable.getSort(), query);
+        return paginator.page(query, pageable, COUNT_STRATEGY, countKey("all", types, keyword), countOf(board, query));
     }
 
     @Override
     public Page<ReplyCountDTO> searchWithReplyCount(String[] types, String keyword, Pageable pageable) {
 
         QBoard board = QBoard.board;
-        QReply reply = QReply.reply;
-        JPQLQuery<Board> query = from(board);
-        query.leftJoin(reply).on(reply.board.eq(board));
+        JPQLQuery<Board> query = from(board); // 댓글 수는 board.replyCount 컬럼 (reply join / group by 없음)
 
-        query.groupBy(board);
+        List<Long> rankedIds = boardSearchIndex.search(types, keyword);
+        if (rankedIds != null) { // 검색 인덱스 결과 -> 해당 페이지 글만 댓글 수와 함께 조회
+            List<Long> pageIds = TextSearchIndex.pageOf(rankedIds, pageable);
+            if (pageIds.isEmpty()) {
+                return new PageImpl<>(new ArrayList<>(), pageable, rankedIds.size());
+            }
+            List<ReplyCountDTO> dtoList = TextSearchIndex.inRankOrder(query
+                    .where(board.bno.in(pageIds))
+                    .select(Projections.bean(ReplyCountDTO.class,
+                            board.bno,
+                            board.title,
+                            board.writer,
+                            board.regDate,
+                            board.replyCount))
+                    .fetch(), pageIds, ReplyCountDTO::getBno);
+            Map<Long, String> snippets = boardSearchIndex.snippets(types, keyword, pageIds);
+            dtoList.forEach(dto -> dto.setSnippet(snippets.get(dto.getBno())));
+            return new PageImpl<>(dtoList, pageable, rankedIds.size());
+        }
 
         if((types != null && types. length >0) && keyword != null ){
             BooleanBuilder booleanBuilder = new BooleanBuilder();
@@ -112,55 +148,98 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
                 board.title,
                 board.writer,
                 board.regDate,
-                reply.count().as("replyCount")
+                board.replyCount
         ));
 
-        this.getQuerydsl().applyPagination(pageable, dtoQuery);
-
-        List<ReplyCountDTO> dtoList = dtoQuery.fetch();
-
-        long count = dtoQuery.fetchCount();
+        this.getQuerydsl().applySorting(pageable.getSort(), dtoQuery);
 
-        return new PageImpl<>(dtoList, pageable, count);
+        return paginator.page(dtoQuery, pageable, COUNT_STRATEGY, countKey("tcw", types, keyword), countOf(board, query));
     }
 
     @Override
     public Page<BoardAllList> searchWithAll(String[] types, String keyword, Pageable pageable) {
 
         QBoard board = QBoard.board;
-        QReply reply = QReply.reply;
-
-        JPQLQuery<Board> boardJPQLQuery = from(board);
-        boardJPQLQuery.leftJoin(reply).on(reply.board.eq(board));
-
-        boardJPQLQuery.groupBy(board);
-
-        getQuerydsl().applyPagination(pageable, boardJPQLQuery);
-
-        JPQLQuery<Tuple> tupleJPQLQuery = boardJPQLQuery.select(board, reply.countDistinct());
 
-        List<Tuple> tupleList = tupleJPQLQuery.fetch();
+        JPQLQuery<Board> boardJPQLQuery = from(board); // 댓글 수는 board.replyCount 컬럼 (reply join / group by 없음)
 
-        List<BoardAllList> dtoList = tupleList.stream().map(tuple -> {
+        List<Long> rankedIds = boardSearchIndex.search(types, keyword);
+        List<Long> pageIds = null;
+        if (rankedIds != null) { // 검색 인덱스 결과 -> 점수순으로 해당 페이지 글만 조회
+            pageIds = TextSearchIndex.pageOf(rankedIds, pageable);
+            if (pageIds.isEmpty()) {
+                return new PageImpl<>(new ArrayList<>(), pageable, rankedIds.size());
+            }
+            boardJPQLQuery.where(board.bno.in(pageIds));
+        } else {
+            boardJPQLQuery.where(searchCondition(board, types, keyword)); // 인덱스를 못 쓰면 like 검색
+            getQuerydsl().applySorting(pageable.getSort(), boardJPQLQuery);
+        }
+        Page<Board> boardPage = rankedIds != null
+                ? new PageImpl<>(boardJPQLQuery.fetch(), pageable, rankedIds.size())
+                : paginator.page(boardJPQLQuery, pageable, COUNT_STRATEGY, countKey("tcw", types, keyword), countOf(board, boardJPQLQuery));
 
-            Board board1 = (Board) tuple.get(board);
-            long replyCount = tuple.get(1, Long.class);
+        List<BoardAllList> dtoList = boardPage.getContent().stream().map(board1 -> {
 
             BoardAllList dto = BoardAllList.builder()
                     .bno(board1.getBno())
                     .title(board1.getTitle())
                     .writer(board1.getWriter())
                     .regDate(board1.getRegDate())
-                    .replyCount(replyCount)
+                    .replyCount(board1.getReplyCount())
+                    .viewCount(board1.getViewCount())
                     .category(board1.getCategory())
                     .build();
 
             return dto;
         }).collect(Collectors.toList());
 
-        long totalCount = boardJPQLQuery.fetchCount();
+        if (rankedIds != null) {
+            dtoList = TextSearchIndex.inRankOrder(dtoList, pageIds, BoardAllList::getBno);
+            Map<Long, String> snippets = boardSearchIndex.snippets(types, keyword, pageIds);
+            dtoList.forEach(dto -> dto.setSnippet(snippets.get(dto.getBno())));
+            return new PageImpl<>(dtoList, pageable, rankedIds.size());
+        }
+
+        return new PageImpl<>(dtoList, pageable, boardPage.getTotalElements());
+    }
+
+    @Override
+    public Map<Long, String> searchSnippets(String[] types, String keyword, Collection<Long> bnos) {
+        return boardSearchIndex.snippets(types, keyword, bnos);
+    }
 
-        return new PageImpl<>(dtoList, pageable, totalCount);
+    // 데이터 쿼리와 같은 where 조건으로 board 개수만 세는 쿼리
+    private LongSupplier countOf(QBoard board, JPQLQuery<?> query) {
+        Predicate where = query.getMetadata().getWhere();
+        return () -> from(board).where(where).select(board.count()).fetchOne();
+    }
+
+    // 같은 검색 조건이면 같은 키 (CACHED_APPROX 캐시용)
+    private static String countKey(String kind, String[] types, String keyword) {
+        return COUNT_KEY_PREFIX + kind + ":" + (types == null ? "" : String.join(",", types)) + ":" + (keyword == null ? "" : keyword);
+    }
+
+    // 화면 검색 조건 (t: 제목, c: 내용, w: 작성자) -> like 조건. 조건이 없으면 null
+    private BooleanBuilder searchCondition(QBoard board, String[] types, String keyword) {
+        if (types == null || types.length == 0 || keyword == null) {
+            return null;
+        }
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        for (String type : types) {
+            switch (type) {
+                case "t":
+                    booleanBuilder.or(board.title.contains(keyword));
+                    break;
+                case "c":
+                    booleanBuilder.or(board.content.contains(keyword));
+                    break;
+                case "w":
+                    booleanBuilder.or(board.writer.contains(keyword));
+                    break;
+            }
+        }
+        return booleanBuilder;
     }
 
 }
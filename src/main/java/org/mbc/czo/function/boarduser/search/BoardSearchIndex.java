@@ -0,0 +1,101 @@
+package org.mbc.czo.function.boarduser.search;
+
+import jakarta.persistence.EntityManager;
+import org.mbc.czo.function.boarduser.domain.Board;
+import org.mbc.czo.function.common.search.TextSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 사용자 게시판(Board) 제목/내용/작성자 검색 인덱스
+@Component
+public class BoardSearchIndex extends TextSearchIndex {
+
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    static final String WRITER = "writer";
+    private static final int REBUILD_BATCH = 500;
+
+    private final EntityManager em;
+
+    public BoardSearchIndex(PlatformTransactionManager transactionManager,
+                            EntityManager em,
+                            @Value("${board.search.enabled:true}") boolean enabled,
+                            @Value("${board.search.max-hits:1000}") int maxHits) {
+        super("게시판", enabled, maxHits, transactionManager);
+        this.em = em;
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${board.search.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    protected List<Doc> loadAfter(long afterId) {
+        return em.createQuery(
+                        "select b.bno, b.title, b.content, b.writer from Board b " +
+                                "where b.bno > :after order by b.bno", Object[].class)
+                .setParameter("after", afterId)
+                .setMaxResults(REBUILD_BATCH)
+                .getResultList().stream()
+                .map(row -> toDoc((Long) row[0], (String) row[1], (String) row[2], (String) row[3]))
+                .toList();
+    }
+
+    // 등록/수정 (커밋 후 반영)
+    public void index(Board board) {
+        if (board != null && board.getBno() != null) {
+            upsert(toDoc(board.getBno(), board.getTitle(), board.getContent(), board.getWriter()));
+        }
+    }
+
+    // 삭제 (커밋 후 반영)
+    public void delete(Long bno) {
+        if (bno != null) {
+            remove(bno);
+        }
+    }
+
+    // 검색 조건에 맞는 글 번호 (점수순). 인덱스를 쓸 수 없으면 null -> like 검색
+    public List<Long> search(String[] types, String keyword) {
+        return searchIds(keyword, fieldsOf(types), Map.of());
+    }
+
+    // 글 번호별 내용 스니펫 (검색어는 <mark>, 나머지는 HTML 이스케이프)
+    public Map<Long, String> snippets(String[] types, String keyword, Collection<Long> bnos) {
+        return highlight(keyword, fieldsOf(types), CONTENT, bnos);
+    }
+
+    // 화면(t/c/w)과 searchAll(제목/내용/작성자) 두 가지 검색 타입 표기를 모두 받는다
+    static Set<String> fieldsOf(String[] types) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (types == null) {
+            return fields;
+        }
+        for (String type : types) {
+            switch (type) {
+                case "t", "제목" -> fields.add(TITLE);
+                case "c", "내용" -> fields.add(CONTENT);
+                case "w", "작성자" -> fields.add(WRITER);
+                default -> { }
+            }
+        }
+        return fields;
+    }
+
+    private static Doc toDoc(Long bno, String title, String content, String writer) {
+        return new Doc(bno)
+                .storedText(TITLE, title)
+                .storedText(CONTENT, content)
+                .storedText(WRITER, writer);
+    }
+}
@@ -5,19 +5,25 @@ package org.mbc.czo.function.boarduser.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.counter.ViewCountBuffer;
+import org.mbc.czo.function.common.counter.ViewCountRepository.Target;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.boarduser.search.BoardSearchImpl;
 import org.mbc.czo.function.boarduser.domain.Board;
 import org.mbc.czo.function.boarduser.dto.BoardAllList;
 import org.mbc.czo.function.boarduser.dto.BoardDTO;
 import org.mbc.czo.function.boarduser.dto.PageRequestDTO;
 import org.mbc.czo.function.boarduser.dto.PageResponseDTO;
 import org.mbc.czo.function.boarduser.dto.ReplyCountDTO;
+import org.mbc.czo.function.boarduser.mapper.BoardMapper;
 import org.mbc.czo.function.boarduser.repository.BoardRepository;
-import org.modelmapper.ModelMapper;
+import org.mbc.czo.function.boarduser.search.BoardSearchIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,15 +33,20 @@ import java.util.stream.Collectors;
 @Transactional
 public class BoardServiceImpl implements BoardService {
 
-    private final ModelMapper modelMapper;
+    private final BoardMapper boardMapper; // ModelMapper 대신 컴파일 시 생성된 매퍼 사용
     private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final Paginator paginator; // 목록 count 캐시
+    private final ViewCountBuffer viewCountBuffer; // 조회수 write-behind
 
     @Override
     public Long register(BoardDTO boardDTO) {
 
-        Board board = modelMapper.map(boardDTO, Board.class);
+        Board board = boardMapper.toEntity(boardDTO);
 
         Long bno = boardRepository.save(board).getBno();
+        boardSearchIndex.index(board); // 검색 인덱스 반영 (커밋 후)
+        paginator.evictCounts(BoardSearchImpl.COUNT_KEY_PREFIX); // 글 수가 바뀌었으니 캐시된 개수 버림
 
         return bno;
 
@@ -48,7 +59,9 @@ public class BoardServiceImpl implements BoardService {
 
         Board board = result.orElseThrow();
 
-        BoardDTO boardDTO = modelMapper.map(board, BoardDTO.class);
+        BoardDTO boardDTO = boardMapper.toDTO(board);
+        boardDTO.setViewCount(board.getViewCount()
+                + (int) viewCountBuffer.pending(Target.BOARD, bno)); // 아직 DB에 반영 안 된 조회수 포함
 
         return boardDTO;
     }
@@ -60,12 +73,15 @@ public class BoardServiceImpl implements BoardService {
         board.change(boardDTO.getTitle(), boardDTO.getContent());
 
         boardRepository.save(board);
+        boardSearchIndex.index(board);
     }
 
     @Override
     public void remove(Long bno) {
 
         boardRepository.deleteById(bno);
+        boardSearchIndex.delete(bno);
+        paginator.evictCounts(BoardSearchImpl.COUNT_KEY_PREFIX);
     }
 
     @Override
@@ -78,7 +94,12 @@ public class BoardServiceImpl implements BoardService {
         Page<Board> result = boardRepository.searchAll(types, keyword , pageable);
 
         List<BoardDTO> dtoList = result.getContent().stream()
-                .map(board -> modelMapper.map(board, BoardDTO.class)).collect(Collectors.toList());
+                .map(boardMapper::toDTO).collect(Collectors.toList());
+
+        // 검색 중이면 내용 스니펫 (검색 인덱스를 못 쓰면 빈 Map)
+        Map<Long, String> snippets = boardRepository.searchSnippets(types, keyword,
+                dtoList.stream().map(BoardDTO::getBno).collect(Collectors.toList()));
+        dtoList.forEach(dto -> dto.setSnippet(snippets.get(dto.getBno())));
 
         return PageResponseDTO.<BoardDTO>withAll()
                 .pageRequestDTO(pageRequestDTO)
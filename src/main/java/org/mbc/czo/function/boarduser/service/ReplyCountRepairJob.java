@@ -0,0 +1,43 @@
+package org.mbc.czo.function.boarduser.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.boarduser.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글 댓글 수(board.reply_count) 보정 작업
+// 평소에는 ReplyServiceImpl 이 댓글 등록/삭제와 같은 트랜잭션에서 +1/-1 하지만,
+// 게시글 삭제·DB 직접 수정·컬럼 추가 직후 기존 데이터처럼 어긋날 수 있는 경우를 주기적으로 실제 댓글 개수로 맞춘다.
+// bno 구간(board.reply-count.repair-batch 개)마다 따로 커밋해서 잠금을 짧게 유지한다.
+@Log4j2
+@Component
+public class ReplyCountRepairJob {
+
+    private final BoardRepository boardRepository;
+    private final long batch;
+
+    public ReplyCountRepairJob(BoardRepository boardRepository,
+                               @Value("${board.reply-count.repair-batch:1000}") long batch) {
+        this.boardRepository = boardRepository;
+        this.batch = batch;
+    }
+
+    @Scheduled(initialDelayString = "${board.reply-count.repair-initial-delay-ms:60000}",
+            fixedDelayString = "${board.reply-count.repair-interval-ms:3600000}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        try {
+            long maxBno = boardRepository.findMaxBno();
+            int fixed = 0;
+            for (long after = 0; after < maxBno; after += batch) {
+                fixed += boardRepository.repairReplyCounts(after, after + batch);
+            }
+            if (fixed > 0) {
+                log.info("댓글 수 보정: {}건, {}ms", fixed, System.currentTimeMillis() - start);
+            }
+        } catch (RuntimeException e) {
+            log.warn("댓글 수 보정 실패 - 다음 주기에 재시도", e);
+        }
+    }
+}
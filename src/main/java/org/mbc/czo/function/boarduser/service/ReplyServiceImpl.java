@@ -6,13 +6,15 @@ import org.mbc.czo.function.boarduser.domain.Reply;
 import org.mbc.czo.function.boarduser.dto.PageRequestDTO;
 import org.mbc.czo.function.boarduser.dto.PageResponseDTO;
 import org.mbc.czo.function.boarduser.dto.ReplyDTO;
+import org.mbc.czo.function.boarduser.mapper.ReplyMapper;
+import org.mbc.czo.function.boarduser.repository.BoardRepository;
 import org.mbc.czo.function.boarduser.repository.ReplyRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,20 +26,23 @@ import java.util.stream.Collectors;
 public class ReplyServiceImpl implements ReplyService {
 
     private final ReplyRepository replyRepository;
-    private final ModelMapper modelMapper;
+    private final ReplyMapper replyMapper;
+    private final BoardRepository boardRepository; // 게시글 댓글 수(replyCount) 갱신용
 
      @Override
+     @Transactional
      public Long register(ReplyDTO replyDTO) {
          // 댓글 등록
          log.info("모델로 변환전 객체 : " + replyDTO);
 
-         Reply reply = modelMapper.map(replyDTO, Reply.class);
+         Reply reply = replyMapper.toEntity(replyDTO);
 
          log.info("모델로 변환된 객체 : " + reply);
 
          // dto를 엔티티로 변환
          Long rno = replyRepository.save(reply).getRno();
          //                         저정     후  번호를 가져와 rno에 넣음
+         boardRepository.increaseReplyCount(replyDTO.getBno()); // 같은 트랜잭션에서 댓글 수 +1
          return rno;
      }
 
@@ -49,7 +54,7 @@ public class ReplyServiceImpl implements ReplyService {
 
         Reply reply = replyOptional.orElseThrow(); // 객체가 있으면
 
-        return modelMapper.map(reply, ReplyDTO.class);
+        return replyMapper.toDTO(reply);
         //                     엔티티가 dto로 변환되어 리턴
     }
 
@@ -67,7 +72,7 @@ public class ReplyServiceImpl implements ReplyService {
         Page<Reply> result = replyRepository.listOfBoard(bno, pageable);
 
         List<ReplyDTO> dtoList = result.getContent().stream()
-                .map(reply -> modelMapper.map(reply, ReplyDTO.class))
+                .map(replyMapper::toDTO)
                 .collect(Collectors.toList());
 
         return PageResponseDTO.<ReplyDTO>withAll()
@@ -95,9 +100,14 @@ public class ReplyServiceImpl implements ReplyService {
     }
 
     @Override
+    @Transactional
     public void remove(Long rno) {
 
-        replyRepository.deleteById(rno);  // 댓글 번호를 이용해서 삭제
+        Reply reply = replyRepository.findById(rno).orElseThrow();
+        Long bno = reply.getBoard().getBno(); // 프록시 id 라서 게시글 조회 없음
+
+        replyRepository.delete(reply);  // 댓글 번호를 이용해서 삭제
+        boardRepository.decreaseReplyCount(bno); // 같은 트랜잭션에서 댓글 수 -1
 
     }
 }
@@ -1,6 +1,5 @@
 package org.mbc.czo.function.cart.controller;
 
-import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.mbc.czo.function.cart.domain.Cart;
@@ -11,7 +10,7 @@ import org.mbc.czo.function.cart.repository.CartItemRepository;
 import org.mbc.czo.function.cart.repository.CartRepository;
 import org.mbc.czo.function.cart.service.CartService;
 import org.mbc.czo.function.member.domain.Member;
-import org.mbc.czo.function.member.repository.MemberJpaRepository;
+import org.mbc.czo.function.member.security.LoginMember;
 import org.mbc.czo.function.product.repository.ItemRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,7 +30,6 @@ import java.util.Map;
 public class CartController {
 
     private final CartService cartService;
-    private final MemberJpaRepository memberJpaRepository;
     private final ItemRepository itemRepository;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
@@ -44,7 +42,7 @@ public class CartController {
     public @ResponseBody ResponseEntity<?> addToCart(
             @RequestBody @Valid CartItemDTO cartItemDTO,
             BindingResult bindingResult,
-            Principal principal) {
+            @LoginMember Member member) {
 
         if (bindingResult.hasErrors()) {
             StringBuilder sb = new StringBuilder();
@@ -54,15 +52,11 @@ public class CartController {
             return new ResponseEntity<>(sb.toString(), HttpStatus.BAD_REQUEST);
         }
 
-        // 로그인한 회원만 사용
-        String email = (principal != null) ? principal.getName() : null;
-        if (email == null) {
+        // 로그인한 회원만 사용 (MemberCache 확인 후 id 만 채운 프록시)
+        if (member == null) {
             return new ResponseEntity<>("로그인이 필요합니다.", HttpStatus.UNAUTHORIZED);
         }
 
-        Member member = memberJpaRepository.findByMemail(email)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다."));
-
         Long cartItemId = cartService.addCart(cartItemDTO, member);
 
         return new ResponseEntity<>(cartItemId, HttpStatus.OK);
@@ -74,17 +68,12 @@ public class CartController {
      * GET /cart
      * ============================ */
     @GetMapping
-    public String showCart(Model model, Principal principal) {
-        if (principal == null) {
+    public String showCart(Model model, @LoginMember Member member) {
+        if (member == null) {
             return "redirect:member/login";
         }
 
-        String email = principal.getName();
-
-        Member member = memberJpaRepository.findByMemail(email)
-                .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
-
-        Cart cart = cartRepository.findByMemberMemail(member.getMemail())
+        Cart cart = cartRepository.findByMemberMid(member.getMid())
                 .orElseGet(() -> cartRepository.save(Cart.createCart(member)));
 
         List<CartDetailDTO> cartItems = cartItemRepository.findCartDetailDTOList(cart.getId());
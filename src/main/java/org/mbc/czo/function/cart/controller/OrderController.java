@@ -5,10 +5,13 @@
     import org.mbc.czo.function.cart.dto.CartOrderDTO;
     import org.mbc.czo.function.cart.dto.OrderDTO;
     import org.mbc.czo.function.cart.dto.OrderHistDTO;
+    import org.mbc.czo.function.cart.dto.OrderHistSliceDTO;
     import org.mbc.czo.function.cart.service.CartService;
     import org.mbc.czo.function.cart.service.OrderService;
     import org.mbc.czo.function.member.domain.Member;
-    import org.mbc.czo.function.member.repository.MemberJpaRepository;
+    import org.mbc.czo.function.member.security.LoginMember;
+    import org.springframework.data.domain.Page;
+    import org.springframework.data.domain.PageRequest;
     import org.springframework.http.HttpStatus;
     import org.springframework.http.ResponseEntity;
     import org.springframework.stereotype.Controller;
@@ -29,7 +32,6 @@
 
         private final CartService cartService;
         private final OrderService orderService;
-        private final MemberJpaRepository memberJpaRepository;
 
         /* ============================
          * 단일 상품 바로 주문 (상세페이지)
@@ -125,18 +127,13 @@
             }
 
             int pageSize = 5; // 한 페이지에 보여줄 주문 수
-            List<OrderHistDTO> allOrders = cartService.getOrderHist(principal.getName());
+            page = Math.max(page, 1);
 
-            // 최근 주문이 먼저 오도록 정렬
-            allOrders.sort((o1, o2) -> o2.getOrderDate().compareTo(o1.getOrderDate()));
-
-            int totalOrders = allOrders.size();
-            int totalPages = (int) Math.ceil((double) totalOrders / pageSize);
-
-            int fromIndex = (page - 1) * pageSize;
-            int toIndex = Math.min(fromIndex + pageSize, totalOrders);
-
-            List<OrderHistDTO> orders = allOrders.subList(fromIndex, toIndex);
+            // 요청한 페이지의 주문만 DB에서 조회 (최근 주문 순)
+            Page<OrderHistDTO> orderPage = cartService.getOrderHistPage(principal.getName(),
+                    PageRequest.of(page - 1, pageSize));
+            List<OrderHistDTO> orders = orderPage.getContent();
+            int totalPages = orderPage.getTotalPages();
 
             Map<Long, Integer> orderTotalMap = new HashMap<>();
             for (OrderHistDTO order : orders) {
@@ -156,6 +153,28 @@
             return "order/orderHist";
         }
 
+        /* ============================
+         * 주문 내역 커서 조회 (무한 스크롤용)
+         * GET /cart/order/history/seek
+         * ============================ */
+        @GetMapping("/history/seek")
+        @ResponseBody
+        public ResponseEntity<?> orderHistorySlice(Principal principal,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "5") int size) {
+            if (principal == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body("redirect:/member/login");
+            }
+
+            size = Math.max(1, Math.min(size, 50)); // 과도한 요청 방지
+            OrderHistSliceDTO slice = cartService.getOrderHistSlice(principal.getName(), cursor, size);
+            for (OrderHistDTO order : slice.getContent()) {
+                order.setMemberId(principal.getName());
+            }
+            return ResponseEntity.ok(slice);
+        }
+
         /* ============================
          * 주문/결제 페이지
          * GET /cart/order
@@ -183,17 +202,15 @@
          * ============================ */
         @PostMapping("/complete")
         public String completeOrder(@RequestParam("paymentMethod") String paymentMethod,
-                                    Principal principal, Model model) {
+                                    Principal principal, @LoginMember Member member, Model model) {
 
-            if (principal == null) {
+            // 로그인 안 했거나 탈퇴한 회원
+            if (principal == null || member == null) {
                 return "redirect:/member/login";
             }
 
             String email = principal.getName();
 
-            Member member = memberJpaRepository.findByMemail(email)
-                    .orElseThrow(() -> new IllegalStateException("회원 정보를 찾을 수 없습니다."));
-
             try {
                 List<CartOrderDTO> cartOrders = cartService.getCartOrdersForUser(email);
 
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 회원별 주문 내역 페이징 (최신순 + 키셋)
+        @Index(name = "idx_orders_member_date", columnList = "member_id, orderDate, order_id")
+})
 @Getter
 @Setter
 public class Order extends BaseEntity {
@@ -84,14 +87,21 @@ public class Order extends BaseEntity {
      * - 주문에 포함된 각 OrderItem의 재고를 원래대로 복구
      */
     public void cancel() {
-        if (this.orderStatus == OrderStatus.CANCEL) {
-            throw new IllegalStateException("이미 취소된 주문입니다.");
-        }
-        this.orderStatus = OrderStatus.CANCEL;
+        changeStatusToCancel();
 
         for (OrderItem item : orderItems) {
             item.cancel(); // OrderItem에 재고 복구 메서드 필요
         }
     }
 
+    /**
+     * 주문 상태만 CANCEL로 변경 (재고 복구는 OrderService에서 UPDATE 한 번으로 처리)
+     */
+    public void changeStatusToCancel() {
+        if (this.orderStatus == OrderStatus.CANCEL) {
+            throw new IllegalStateException("이미 취소된 주문입니다.");
+        }
+        this.orderStatus = OrderStatus.CANCEL;
+    }
+
 }
@@ -53,6 +53,16 @@ public class OrderItem extends BaseEntity {
         return orderItem;
     }
 
+    // 재고를 이미 DB에서 차감(예약)한 경우에 사용 - 엔티티의 재고는 건드리지 않음
+    // (OrderService에서 주문 상품 전체를 UPDATE 한 번으로 차감한 뒤 호출)
+    public static OrderItem createReservedOrderItem(Item item, int count) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setItem(item);
+        orderItem.setCount(count);
+        orderItem.setOrderPrice(item.getPrice());
+        return orderItem;
+    }
+
     // === 비즈니스 로직 ===
     // 주문상품 총 가격 (상품 가격 × 수량)
     public int getTotalPrice() {
@@ -3,6 +3,7 @@ package org.mbc.czo.function.cart.dto;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -13,6 +14,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public class CartItemDTO { // 상품을 장바구니에 추가할때 요청으로 사용되는 DTO
 
     /**
@@ -45,4 +47,17 @@ public class CartItemDTO { // 상품을 장바구니에 추가할때 요청으
 
     private int totalPrice;
 
+    /**
+     * 생성자 - 장바구니 목록을 DTO 프로젝션으로 조회할 때 사용
+     * (CartItemRepository.findCartItemDTOList)
+     */
+    public CartItemDTO(Long cartItemId, Long itemId, String itemNm, int price, int count) {
+        this.cartItemId = cartItemId;
+        this.itemId = itemId;
+        this.itemNm = itemNm;
+        this.price = price;
+        this.count = count;
+        this.totalPrice = price * count;
+    }
+
 }
@@ -1,9 +1,12 @@
 package org.mbc.czo.function.cart.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.mbc.czo.function.cart.constant.OrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,6 +16,7 @@ import java.util.List;
  * - 주문 ID, 주문일, 주문 상태, 주문 상품 리스트 포함
  */
 @Getter @Setter
+@NoArgsConstructor
 public class OrderHistDTO { // 주문내역 화면을 불러올 때 사용하는 DTO
 
     // 주문 ID (Order PK)
@@ -31,14 +35,25 @@ public class OrderHistDTO { // 주문내역 화면을 불러올 때 사용하는
      * 주문 상품 리스트
      * - 각 상품은 OrderItemDTO 형태
      */
-    private List<OrderItemDTO> orderItems;
+    private List<OrderItemDTO> orderItems = new ArrayList<>();
 
     private String memberId;
 
+    // 주문 목록 DTO 생성자 (주문 상품은 CartService 에서 따로 붙임)
+    public OrderHistDTO(Long orderId, LocalDateTime orderDate, OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.orderDate = orderDate;
+        this.status = orderStatus.toString();
+    }
+
     // 주문 상품정보를 담는 내부 DTO
     @Getter @Setter
+    @NoArgsConstructor
     public static class OrderItemDTO {
 
+        // 소속 주문 ID (주문별로 묶을 때 사용)
+        private Long orderId;
+
         // 상품명
         private String itemNm;
 
@@ -47,5 +62,13 @@ public class OrderHistDTO { // 주문내역 화면을 불러올 때 사용하는
 
         // 주문 당시 상품 가격
         private int orderPrice;
+
+        // 주문 상품 DTO 프로젝션용 생성자 (OrderItemRepository.findOrderHistItemDTOList)
+        public OrderItemDTO(Long orderId, String itemNm, int count, int orderPrice) {
+            this.orderId = orderId;
+            this.itemNm = itemNm;
+            this.count = count;
+            this.orderPrice = orderPrice;
+        }
     }
 }
@@ -0,0 +1,25 @@
+package org.mbc.czo.function.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 커서 기반 주문 내역 응답 DTO
+ *
+ * - 전체 주문 수(COUNT)는 구하지 않고 다음 페이지 존재 여부만 알려준다
+ * - 다음 페이지는 nextCursor 를 그대로 넘겨서 요청
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class OrderHistSliceDTO {
+
+    private List<OrderHistDTO> content;
+
+    private String nextCursor; // 마지막 페이지면 null
+
+    private boolean hasNext;
+}
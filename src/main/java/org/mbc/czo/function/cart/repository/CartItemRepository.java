@@ -2,8 +2,10 @@ package org.mbc.czo.function.cart.repository;
 
 import org.mbc.czo.function.cart.domain.CartItem;
 import org.mbc.czo.function.cart.dto.CartDetailDTO;
+import org.mbc.czo.function.cart.dto.CartItemDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,5 +33,15 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     // 예: 헤더 장바구니 갯수 표시
     long countByCart_Member_Memail(String email);
 
+    // 4. 회원 이메일로 장바구니 상품 목록을 DTO로 조회
+    // Member → Cart → CartItem → Item 을 한 번에 조인 (상품별 지연 로딩 SELECT 방지)
+    @Query("SELECT new org.mbc.czo.function.cart.dto.CartItemDTO(" +
+            "ci.id, i.id, i.itemNm, i.price, ci.count) " +
+            "FROM CartItem ci " +
+            "JOIN ci.item i " +
+            "WHERE ci.cart.member.memail = :email " +
+            "ORDER BY ci.id")
+    List<CartItemDTO> findCartItemDTOList(@Param("email") String email);
+
 
 }
@@ -11,4 +11,7 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     // ex) 사용자가 '장바구니' 버튼을 눌렀을때 member.memail을 기준으로 DB에서 해당 회원의 장바구니 조회
     Optional<Cart> findByMemberMemail(String memail);
 
+    // 회원 id 로 장바구니 조회 - @LoginMember 프록시는 id 만 있으므로 회원 테이블 조인 없이 cart.member_id 로 찾음
+    Optional<Cart> findByMemberMid(String mid);
+
 }
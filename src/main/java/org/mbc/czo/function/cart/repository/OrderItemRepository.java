@@ -2,11 +2,26 @@ package org.mbc.czo.function.cart.repository;
 
 import org.mbc.czo.function.cart.domain.Order;
 import org.mbc.czo.function.cart.domain.OrderItem;
+import org.mbc.czo.function.cart.dto.OrderHistDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.awt.print.Pageable;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+    // 여러 주문의 주문 상품을 한 번에 DTO로 조회 (주문 내역 화면용)
+    // 주문마다 getOrderItems() → getItem() 을 타면 주문 수 × 상품 수 만큼 SELECT 가 나가므로
+    // 주문 ID 목록을 IN 으로 넘겨 상품명까지 조인해서 가져온다
+    @Query("select new org.mbc.czo.function.cart.dto.OrderHistDTO$OrderItemDTO(" +
+            "oi.order.id, i.itemNm, oi.count, oi.orderPrice) " +
+            "from OrderItem oi " +
+            "join oi.item i " +
+            "where oi.order.id in :orderIds " +
+            "order by oi.id")
+    List<OrderHistDTO.OrderItemDTO> findOrderHistItemDTOList(@Param("orderIds") Collection<Long> orderIds);
+
 }
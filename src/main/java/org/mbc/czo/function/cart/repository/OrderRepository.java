@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,7 +27,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query("select o from Order o " +
             "where o.member.memail = :email " +
-            "order by o.orderDate desc"
+            "order by o.orderDate desc, o.id desc"
     )
     List<Order> findOrders(@Param("email") String email, Pageable pageable);
 
@@ -41,6 +42,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     )
     Long countOrder(@Param("email") String email);
 
+    /**
+     * 키셋(seek) 페이징 - 커서(마지막으로 본 주문의 주문일, 주문 ID)보다 이전 주문을 조회
+     * - OFFSET 없이 (member_id, order_date, order_id) 인덱스를 타고 바로 다음 위치부터 읽는다
+     *
+     * @param email     회원 이메일
+     * @param orderDate 커서 주문일
+     * @param orderId   커서 주문 ID
+     * @param pageable  조회 개수 (page 는 항상 0)
+     * @return 주문 리스트 (주문일, 주문 ID 기준 내림차순)
+     */
+    @Query("select o from Order o " +
+            "where o.member.memail = :email " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :orderId)) " +
+            "order by o.orderDate desc, o.id desc"
+    )
+    List<Order> findOrdersBefore(@Param("email") String email,
+                                 @Param("orderDate") LocalDateTime orderDate,
+                                 @Param("orderId") Long orderId,
+                                 Pageable pageable);
+
     /**
      * 특정 회원(Member)으로 주문 조회
      *
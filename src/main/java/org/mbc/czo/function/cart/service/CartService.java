@@ -9,18 +9,22 @@ import org.mbc.czo.function.cart.domain.Order;
 import org.mbc.czo.function.cart.dto.*;
 import org.mbc.czo.function.cart.repository.CartItemRepository;
 import org.mbc.czo.function.cart.repository.CartRepository;
+import org.mbc.czo.function.cart.repository.OrderItemRepository;
 import org.mbc.czo.function.cart.repository.OrderRepository;
 import org.mbc.czo.function.member.domain.Member;
-import org.mbc.czo.function.member.repository.MemberJpaRepository;
 import org.mbc.czo.function.product.domain.Item;
 import org.mbc.czo.function.product.repository.ItemRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Log4j2
 @Service
@@ -29,10 +33,10 @@ import java.util.stream.Collectors;
 public class CartService {
 
     private final ItemRepository itemRepository;
-    private final MemberJpaRepository memberJpaRepository;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final OrderService orderService;
 
     // =======================================================
@@ -42,7 +46,7 @@ public class CartService {
         Item item = itemRepository.findById(cartItemDTO.getItemId())
                 .orElseThrow(() -> new EntityNotFoundException("상품이 존재하지 않습니다."));
 
-        Cart cart = cartRepository.findByMemberMemail(member.getMemail())
+        Cart cart = cartRepository.findByMemberMid(member.getMid())
                 .orElseGet(() -> cartRepository.save(Cart.createCart(member)));
 
         CartItem savedCartItem = cartItemRepository.findByCart_IdAndItem_Id(cart.getId(), item.getId())
@@ -63,62 +67,69 @@ public class CartService {
     // =======================================================
     @Transactional(readOnly = true)
     public List<CartItemDTO> getCartItems(String memail) {
-        Member member = memberJpaRepository.findByMemail(memail)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다: " + memail));
-
-        Cart cart = cartRepository.findByMemberMemail(member.getMemail())
-                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
-
-        if (cart.getCartItems() == null || cart.getCartItems().isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return cart.getCartItems().stream()
-                .map(cartItem -> {
-                    CartItemDTO dto = new CartItemDTO();
-                    dto.setCartItemId(cartItem.getId());
-                    dto.setItemId(cartItem.getItem().getId());
-                    dto.setItemNm(cartItem.getItem().getItemNm());
-                    dto.setCount(cartItem.getCount());
-                    dto.setPrice(cartItem.getItem().getPrice());
-                    // 총 금액
-                    dto.setTotalPrice(cartItem.getItem().getPrice() * cartItem.getCount());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 회원 → 장바구니 → 상품을 조인한 DTO 프로젝션 한 번으로 조회 (장바구니가 없으면 빈 목록)
+        return cartItemRepository.findCartItemDTOList(memail);
     }
 
     // =======================================================
     // 3. 주문 내역 조회
     // =======================================================
+    // 주문 내역 페이지 조회 - 요청한 페이지의 주문과 그 주문 상품만 읽는다
     @Transactional(readOnly = true)
-    public List<OrderHistDTO> getOrderHist(String memail) {
-        Member member = memberJpaRepository.findByMemail(memail)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다: " + memail));
-
-        List<Order> orders = orderRepository.findByMember(member);
-
-        return orders.stream()
-                .map(order -> {
-                    OrderHistDTO dto = new OrderHistDTO();
-                    dto.setOrderId(order.getId());
-                    dto.setOrderDate(order.getOrderDate());
-                    dto.setStatus(order.getOrderStatus().toString());
-
-                    List<OrderHistDTO.OrderItemDTO> orderItemDTOs = order.getOrderItems().stream()
-                            .map(orderItem -> {
-                                OrderHistDTO.OrderItemDTO itemDTO = new OrderHistDTO.OrderItemDTO();
-                                itemDTO.setItemNm(orderItem.getItem().getItemNm());
-                                itemDTO.setCount(orderItem.getCount());
-                                itemDTO.setOrderPrice(orderItem.getOrderPrice());
-                                return itemDTO;
-                            })
-                            .collect(Collectors.toList());
-
-                    dto.setOrderItems(orderItemDTOs);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public Page<OrderHistDTO> getOrderHistPage(String memail, Pageable pageable) {
+        List<OrderHistDTO> orders = toOrderHistDTOList(orderRepository.findOrders(memail, pageable));
+        attachOrderItems(orders);
+
+        // 첫 페이지가 다 안 찼거나 마지막 페이지면 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(orders, pageable, () -> orderRepository.countOrder(memail));
+    }
+
+    // 주문 내역 커서(키셋) 조회 - OFFSET/COUNT 없이 마지막으로 본 주문 다음부터 size 개
+    @Transactional(readOnly = true)
+    public OrderHistSliceDTO getOrderHistSlice(String memail, String cursor, int size) {
+        OrderHistCursor after = OrderHistCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1); // 한 개 더 읽어서 다음 페이지 여부 판단
+
+        List<Order> rows = after == null
+                ? orderRepository.findOrders(memail, limit)
+                : orderRepository.findOrdersBefore(memail, after.getOrderDate(), after.getLastId(), limit);
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        List<OrderHistDTO> orders = toOrderHistDTOList(rows);
+        attachOrderItems(orders);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Order last = rows.get(rows.size() - 1);
+            nextCursor = new OrderHistCursor(last.getOrderDate(), last.getId()).encode();
+        }
+        return new OrderHistSliceDTO(orders, nextCursor, hasNext);
+    }
+
+    private List<OrderHistDTO> toOrderHistDTOList(List<Order> orders) {
+        List<OrderHistDTO> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(new OrderHistDTO(order.getId(), order.getOrderDate(), order.getOrderStatus()));
+        }
+        return result;
+    }
+
+    // 주문 상품은 IN 쿼리 한 번으로 가져와서 주문별로 묶는다 (주문마다 지연 로딩 SELECT 방지)
+    private void attachOrderItems(List<OrderHistDTO> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Map<Long, OrderHistDTO> orderMap = new LinkedHashMap<>();
+        for (OrderHistDTO order : orders) {
+            orderMap.put(order.getOrderId(), order);
+        }
+        for (OrderHistDTO.OrderItemDTO orderItem : orderItemRepository.findOrderHistItemDTOList(orderMap.keySet())) {
+            orderMap.get(orderItem.getOrderId()).getOrderItems().add(orderItem);
+        }
     }
 
     // =======================================================
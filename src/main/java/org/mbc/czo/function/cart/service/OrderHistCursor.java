@@ -0,0 +1,45 @@
+package org.mbc.czo.function.cart.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 주문 내역 키셋(seek) 페이징용 커서. 마지막으로 본 주문의 (orderDate, order_id)를
+// "주문일시|주문ID" 형태로 담아 URL-safe Base64 문자열로 내보낸다. (ItemCursor와 같은 방식)
+final class OrderHistCursor {
+
+    private final LocalDateTime orderDate;
+    private final long lastId;
+
+    OrderHistCursor(LocalDateTime orderDate, long lastId) {
+        this.orderDate = orderDate;
+        this.lastId = lastId;
+    }
+
+    LocalDateTime getOrderDate() { return orderDate; }
+
+    long getLastId() { return lastId; }
+
+    String encode() {
+        String raw = orderDate + "|" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 깨진 토큰이면 null -> 첫 페이지부터 조회
+    static OrderHistCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                return null;
+            }
+            return new OrderHistCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
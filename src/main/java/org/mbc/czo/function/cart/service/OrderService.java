@@ -11,14 +11,20 @@ import org.mbc.czo.function.cart.repository.CartItemRepository;
 import org.mbc.czo.function.cart.repository.CartRepository;
 import org.mbc.czo.function.cart.repository.OrderRepository;
 import org.mbc.czo.function.member.domain.Member;
-import org.mbc.czo.function.member.repository.MemberJpaRepository;
+import org.mbc.czo.function.member.service.MemberCache;
 import org.mbc.czo.function.product.domain.Item;
+import org.mbc.czo.function.product.exception.OutOfStockException;
 import org.mbc.czo.function.product.repository.ItemRepository;
+import org.mbc.czo.function.product.repository.ItemStockRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -26,27 +32,23 @@ import java.util.List;
 public class OrderService {
 
     private final ItemRepository itemRepository;
-    private final MemberJpaRepository memberJpaRepository;
+    private final MemberCache memberCache;
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final ItemStockRepository itemStockRepository;
 
     /**
      * 단일 상품 주문 (상세페이지 → 바로구매)
      */
     public Long order(OrderDTO orderDTO, String memail) {
-        // 상품 조회
-        Item item = itemRepository.findById(orderDTO.getItem_id())
-                .orElseThrow(() -> new EntityNotFoundException("상품이 존재하지 않습니다."));
+        // 회원 조회 (MemberCache - 주문의 FK 지정용 프록시, 회원 SELECT 없음)
+        Member member = memberCache.getReferenceByEmail(memail);
 
-        // 회원 조회
-        Member member = memberJpaRepository.findByMemail(memail)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다: " + memail));
-
-        // 주문 상품 생성
-        OrderItem orderItem = OrderItem.createOrderItem(item, orderDTO.getCount());
-        List<OrderItem> orderItemList = new ArrayList<>();
-        orderItemList.add(orderItem);
+        // 상품 조회 + 재고 차감 후 주문 상품 생성
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(orderDTO.getItem_id(), orderDTO.getCount());
+        List<OrderItem> orderItemList = reserveStock(lines);
 
         // 주문 생성 & 저장
         Order order = Order.createOrder(member, orderItemList);
@@ -59,18 +61,15 @@ public class OrderService {
      * 다중 상품 주문 (여러 개 상품 바로 주문)
      */
     public Long orders(List<OrderDTO> orderDTOList, String memail) {
-        // 회원 조회
-        Member member = memberJpaRepository.findByMemail(memail)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다: " + memail));
-
-        List<OrderItem> orderItemList = new ArrayList<>();
+        // 회원 조회 (MemberCache - 주문의 FK 지정용 프록시, 회원 SELECT 없음)
+        Member member = memberCache.getReferenceByEmail(memail);
 
+        // 상품별 수량 (같은 상품이 여러 번 들어오면 합산)
+        Map<Long, Integer> lines = new LinkedHashMap<>();
         for (OrderDTO orderDTO : orderDTOList) {
-            Item item = itemRepository.findById(orderDTO.getItem_id())
-                    .orElseThrow(() -> new EntityNotFoundException("상품이 존재하지 않습니다."));
-            OrderItem orderItem = OrderItem.createOrderItem(item, orderDTO.getCount());
-            orderItemList.add(orderItem);
+            lines.merge(orderDTO.getItem_id(), orderDTO.getCount(), Integer::sum);
         }
+        List<OrderItem> orderItemList = reserveStock(lines);
 
         Order order = Order.createOrder(member, orderItemList);
         orderRepository.save(order);
@@ -83,23 +82,19 @@ public class OrderService {
      * - 주문 완료 후 장바구니 비움
      */
     public Long orderFromCart(String memail) {
-        // 회원 조회
-        Member member = memberJpaRepository.findByMemail(memail)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다: " + memail));
+        // 회원 조회 (MemberCache - 주문의 FK 지정용 프록시, 회원 SELECT 없음)
+        Member member = memberCache.getReferenceByEmail(memail);
 
         // 장바구니 조회
         Cart cart = cartRepository.findByMemberMemail(memail)
                 .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
 
-        List<OrderItem> orderItemList = new ArrayList<>();
-
+        // 장바구니 상품 id/수량만 꺼내고 (상품 엔티티는 reserveStock에서 한 번에 조회)
+        Map<Long, Integer> lines = new LinkedHashMap<>();
         for (CartItem cartItem : cart.getCartItems()) {
-            OrderItem orderItem = OrderItem.createOrderItem(
-                    cartItem.getItem(),
-                    cartItem.getCount()
-            );
-            orderItemList.add(orderItem);
+            lines.merge(cartItem.getItem().getId(), cartItem.getCount(), Integer::sum);
         }
+        List<OrderItem> orderItemList = reserveStock(lines);
 
         // 주문 생성 & 저장
         Order order = Order.createOrder(member, orderItemList);
@@ -124,7 +119,51 @@ public class OrderService {
             throw new IllegalStateException("주문 취소 권한이 없습니다.");
         }
 
-        order.cancel(); // 상태 변경 + 재고 복구
+        order.changeStatusToCancel(); // 상태 변경
+
+        // 재고 복구도 UPDATE 한 번으로 (변경 감지로 덮어쓰면 동시에 들어온 주문의 차감분이 사라질 수 있음)
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            counts.merge(orderItem.getItem().getId(), orderItem.getCount(), Integer::sum);
+        }
+        itemStockRepository.increaseStock(counts);
+    }
+
+    /**
+     * 주문 상품 전체 재고 예약
+     * 1) 상품을 IN 쿼리 한 번으로 조회 (상품별 findById 반복 X)
+     * 2) 조건부 UPDATE 한 번으로 재고 차감 (stock_number >= 주문수량 인 행만 차감)
+     * 3) 한 상품이라도 부족하면 예외 -> 트랜잭션 롤백으로 주문 전체 취소
+     */
+    private List<OrderItem> reserveStock(Map<Long, Integer> lines) {
+        Map<Long, Item> items = itemRepository.findAllById(lines.keySet()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        if (items.size() < lines.size()) {
+            throw new EntityNotFoundException("상품이 존재하지 않습니다.");
+        }
+
+        int updated = itemStockRepository.decreaseStock(lines);
+        if (updated < lines.size()) {
+            throw new OutOfStockException(outOfStockMessage(lines, items));
+        }
+
+        List<OrderItem> orderItemList = new ArrayList<>();
+        lines.forEach((itemId, count) ->
+                orderItemList.add(OrderItem.createReservedOrderItem(items.get(itemId), count)));
+        return orderItemList;
+    }
+
+    // 어떤 상품이 부족한지 현재 재고를 다시 읽어서 안내
+    private String outOfStockMessage(Map<Long, Integer> lines, Map<Long, Item> items) {
+        Map<Long, Integer> stocks = itemStockRepository.findStocks(lines.keySet());
+        List<String> shortItems = new ArrayList<>();
+        lines.forEach((itemId, count) -> {
+            int stock = stocks.getOrDefault(itemId, 0);
+            if (stock < count) {
+                shortItems.add(items.get(itemId).getItemNm() + "(현재 재고 수량: " + stock + ")");
+            }
+        });
+        return "상품의 재고가 부족 합니다. " + String.join(", ", shortItems);
     }
 
 
@@ -0,0 +1,62 @@
+package org.mbc.czo.function.common.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 백그라운드 작업용 스레드풀 설정
+@Log4j2
+@Configuration
+public class AsyncConfig {
+
+    // 이미지 썸네일 생성 전용 풀. 큐가 가득 차면 작업을 버리고 원본 이미지를 그대로 쓰게 한다
+    // (업로드 요청 스레드가 이미지 변환까지 떠안지 않도록)
+    @Bean(name = "imageTaskExecutor")
+    public ThreadPoolTaskExecutor imageTaskExecutor(@Value("${image.variant.threads:2}") int threads,
+                                                    @Value("${image.variant.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("image variant queue full, skipped (original image will be served)"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 업로드 파일 디스크 저장 풀 (ImageUploadService). 한 요청의 이미지 여러 장을 나눠서 쓴다.
+    // 스레드/큐 크기는 제한하되 썸네일 풀과 달리 버리면 안 되므로, 큐가 가득 차면 요청 스레드가 직접 쓴다.
+    @Bean(name = "imageUploadTaskExecutor")
+    public ThreadPoolTaskExecutor imageUploadTaskExecutor(@Value("${image.upload.threads:4}") int threads,
+                                                          @Value("${image.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 메일 발송 전용 풀 (MailDispatcher). SMTP 왕복(1~3초)을 요청 스레드 대신 여기서 처리한다.
+    // 발송할 메일은 mail_outbox 테이블에 쌓이고, 스레드는 threads 개까지만 띄우므로 큐는 따로 두지 않는다.
+    @Bean(name = "mailTaskExecutor")
+    public ThreadPoolTaskExecutor mailTaskExecutor(@Value("${mail.outbox.threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
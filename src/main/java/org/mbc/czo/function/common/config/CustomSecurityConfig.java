@@ -3,10 +3,13 @@ package org.mbc.czo.function.common.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.mbc.czo.function.member.security.CustomUserDetailsService;
+import org.mbc.czo.function.member.security.RedisPersistentTokenRepository;
 import org.mbc.czo.function.member.security.handler.CustomSocialLoginSuccessHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
@@ -30,8 +33,20 @@ public class  CustomSecurityConfig {
     // board/list 접속시 /login 페이지로 자동 이동(시큐리티 내장된 로그인 페이지 : id (user)
     // Using generated security password: 056b482c-b7f9-4582-8a48-392bdc5e9d55(1회용)
 
+    private static final int REMEMBER_ME_SECONDS = 60*60*24*30; // 자동 로그인 30일
+
     private final DataSource dataSource;
 
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 자동 로그인 토큰 저장소: redis(기본) / jdbc(persistent_logins 테이블)
+    @Value("${security.remember-me.store:redis}")
+    private String rememberMeStore;
+
+    // 같은 series 재조회 시 서버 메모리 캐시 유지 시간 (0 이면 사용 안 함 - 기본값, 서버 여러 대면 다른 서버가 바꾼 토큰을 못 봄)
+    @Value("${security.remember-me.near-cache-ms:0}")
+    private long rememberMeNearCacheMillis;
+
     private final CustomUserDetailsService customUserDetailsService;
 
     @Bean
@@ -68,7 +83,7 @@ public class  CustomSecurityConfig {
             httpSecurityRememberMeConfigurer.key("SecurityRememberMeKey") // key는 개발자 맘대로(쿠키값을 인코딩시 활용)
                     .tokenRepository(persistentTokenRepository())  // 필요한 정보를 저장(하단 메서드추가)
                     .userDetailsService(customUserDetailsService)  // User 객체 이용
-                    .tokenValiditySeconds(60*60*24*30); // 30일 보관
+                    .tokenValiditySeconds(REMEMBER_ME_SECONDS); // 30일 보관
             log.info("======= 자동 로그인기법 rememberMe 호출=======");
             //                            초 분 시 일 쿠기의 maxAge()
         });
@@ -77,7 +92,7 @@ public class  CustomSecurityConfig {
                 logout.logoutUrl("/member/logout")          // 로그아웃 경로
                         .logoutSuccessUrl("/")    // 로그아웃 후 이동할 페이지
                         .invalidateHttpSession(true)          // 세션 무효화
-                        .deleteCookies("JSESSIONID")          // JSESSIONID 쿠키 삭제
+                        .deleteCookies("SESSION")             // 세션 쿠키 삭제 (Redis 세션, SessionConfig)
                         .clearAuthentication(true)
         );
 
@@ -133,8 +148,12 @@ public class  CustomSecurityConfig {
         return new BCryptPasswordEncoder(); // 해시코드로 암호화기법을 적용
     }
 
-    @Bean // 자동로그인용 데이터베이스 처리
+    @Bean // 자동로그인용 토큰 저장소 (Redis, security.remember-me.store=jdbc 이면 DB)
     public PersistentTokenRepository persistentTokenRepository() {
+        if (!"jdbc".equalsIgnoreCase(rememberMeStore)) {
+            log.info("======= persistentTokenRepository Redis 토큰 저장소 =======");
+            return new RedisPersistentTokenRepository(stringRedisTemplate, REMEMBER_ME_SECONDS, rememberMeNearCacheMillis);
+        }
         JdbcTokenRepositoryImpl jdbcTokenRepository = new JdbcTokenRepositoryImpl();
         jdbcTokenRepository.setDataSource(dataSource);
         log.info("======= persistentTokenRepository 토큰생성기법 호출 =======");
@@ -0,0 +1,25 @@
+package org.mbc.czo.function.common.config;
+
+import org.mbc.czo.function.product.service.ItemDtlCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 상품 상세 캐시의 Redis 2차 캐시를 켰을 때만 등록
+// 다른 서버에서 상품이 수정되면 evict 메시지를 받아 내 로컬 캐시도 지운다.
+@Configuration
+@ConditionalOnProperty(name = "item.cache.redis.enabled", havingValue = "true")
+public class RedisCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer itemCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    ItemDtlCache itemDtlCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(itemDtlCache, new ChannelTopic(ItemDtlCache.EVICT_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,46 @@
+package org.mbc.czo.function.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mbc.czo.function.common.session.RedisJsonSessionRepository;
+import org.mbc.czo.function.common.session.SessionAttributeCodec;
+import org.mbc.czo.function.member.security.MemberSecurityJackson2Module;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+// HTTP 세션을 Tomcat 메모리 대신 Redis 에 저장 (기존 Lettuce 연결 사용)
+// 서버를 여러 대 띄워도 로드밸런서가 아무 서버로 보내도 로그인이 유지된다.
+// 세션 쿠키 이름은 SESSION (server.servlet.session.cookie.* 설정 적용)
+@Configuration
+@EnableSpringHttpSession
+public class SessionConfig {
+
+    // 세션 속성 JSON 변환용 - 스프링 시큐리티 타입(SecurityContext, 인증 토큰, OAuth2 요청 등) + 로그인 회원 정보
+    public static ObjectMapper sessionObjectMapper(ClassLoader classLoader) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModules(SecurityJackson2Modules.getModules(classLoader));
+        mapper.registerModule(new MemberSecurityJackson2Module());
+        return mapper;
+    }
+
+    @Bean
+    public SessionAttributeCodec sessionAttributeCodec() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        return new SessionAttributeCodec(sessionObjectMapper(classLoader), classLoader);
+    }
+
+    @Bean
+    public RedisJsonSessionRepository sessionRepository(StringRedisTemplate stringRedisTemplate,
+                                                        SessionAttributeCodec sessionAttributeCodec,
+                                                        @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                                                        @Value("${session.redis.touch-interval-seconds:60}") long touchIntervalSeconds,
+                                                        @Value("${session.redis.near-cache-max:10000}") int nearCacheMax) {
+        return new RedisJsonSessionRepository(stringRedisTemplate, sessionAttributeCodec,
+                timeout, Duration.ofSeconds(touchIntervalSeconds), nearCacheMax);
+    }
+}
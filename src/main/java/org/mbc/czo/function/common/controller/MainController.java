@@ -4,6 +4,7 @@ package org.mbc.czo.function.common.controller;
 import lombok.RequiredArgsConstructor;
 import org.mbc.czo.function.product.dto.ItemSearchDto;
 import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.service.ItemHotList;
 import org.mbc.czo.function.product.service.ItemService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,12 +20,16 @@ import java.util.Optional;
 public class MainController {
 
     private  final ItemService itemService;
+    private final ItemHotList itemHotList; // 첫 페이지 캐시
 
     @GetMapping(value = "/")
     public String main(ItemSearchDto itemSearchDto, Optional<Integer> page,Model model) {
         Pageable pageable = PageRequest.of(page.isPresent() ? page.get() : 0,6);
-        Page<MainItemDto> items =
-                itemService.getMainItemPage(itemSearchDto, pageable);
+        // 검색어 없는 첫 페이지는 캐시된 최신순 목록 (DB 조회 없음)
+        Page<MainItemDto> items = itemHotList.firstPage(itemSearchDto, pageable);
+        if (items == null) {
+            items = itemService.getMainItemPage(itemSearchDto, pageable);
+        }
         model.addAttribute("items", items);
         model.addAttribute("itemSearchDto", itemSearchDto);
         model.addAttribute("maxPage", 5);
@@ -0,0 +1,69 @@
+package org.mbc.czo.function.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// id별 증가분(delta)을 메모리에 모아두는 카운터.
+// 요청 스레드는 LongAdder(스트라이프 카운터)에 더하기만 하고, 스케줄러가 주기적으로 drain()해서 DB에 한 번에 반영한다.
+public class DeltaCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void increment(Long id) {
+        add(id, 1L);
+    }
+
+    public void add(Long id, long delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        LongAdder adder = deltas.computeIfAbsent(id, k -> new LongAdder());
+        adder.add(delta);
+        if (deltas.get(id) != adder) {
+            // 더하는 사이 drain 이 이 adder 를 맵에서 뺐으면 더한 값을 새 adder 로 옮긴다 (버려지지 않게)
+            long moved = adder.sumThenReset();
+            if (moved != 0) {
+                add(id, moved);
+            }
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 특정 id의 증가분
+    public long pending(Long id) {
+        LongAdder adder = deltas.get(id);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    // 아직 DB에 반영되지 않은 전체 증가분 (메트릭용)
+    public long pendingTotal() {
+        long total = 0L;
+        for (LongAdder adder : deltas.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    // 쌓인 증가분을 꺼냄. 읽은 합계만큼만 빼므로 읽는 도중 들어온 증가분은 adder 에 남아 다음 drain에 포함된다.
+    // 한 주기 동안 증가가 없던 id는 맵에서 제거해서 메모리가 계속 늘어나지 않게 한다.
+    // (제거와 동시에 더해진 값은 제거 직후 여기서, 그보다 늦은 값은 add() 가 새 adder 로 옮긴다)
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            Long id = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long value = adder.sum();
+            if (value != 0) {
+                adder.add(-value);
+                drained.put(id, value);
+            } else if (deltas.remove(id, adder)) {
+                long late = adder.sumThenReset();
+                if (late != 0) {
+                    add(id, late);
+                }
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,114 @@
+package org.mbc.czo.function.common.counter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.counter.ViewCountRepository.Target;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 공지사항(BoardAdmin) / 문의게시판(Board) 조회수 write-behind 버퍼
+// 글을 읽을 때마다 엔티티를 save 하지 않고 메모리(DeltaCounter)에 합산해 두었다가 주기적으로(기본 1초), 그리고 종료 시 한 번에 반영한다.
+// 같은 사람(세션 -> 로그인 id -> IP 순)이 board.view.dedupe-window-seconds 안에 같은 글을 다시 열면 세지 않는다 (서버별 기록).
+@Log4j2
+@Component
+public class ViewCountBuffer {
+
+    private final Map<Target, DeltaCounter> views = new EnumMap<>(Target.class);
+    private final Map<String, Long> recentViews; // "대상:글번호:보는사람" -> 만료 시각
+
+    private final ViewCountRepository viewCountRepository;
+    private final long dedupeWindowMillis;
+    private final Timer flushTimer;
+
+    public ViewCountBuffer(ViewCountRepository viewCountRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${board.view.dedupe-window-seconds:600}") long dedupeWindowSeconds,
+                           @Value("${board.view.dedupe-max-entries:100000}") int dedupeMaxEntries) {
+        this.viewCountRepository = viewCountRepository;
+        this.dedupeWindowMillis = dedupeWindowSeconds * 1000;
+        this.recentViews = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > dedupeMaxEntries;
+            }
+        };
+        this.flushTimer = Timer.builder("board.view.flush")
+                .description("게시글 조회수 증가분 DB 반영 소요 시간")
+                .register(meterRegistry);
+        for (Target target : Target.values()) {
+            DeltaCounter counter = new DeltaCounter();
+            views.put(target, counter);
+            Gauge.builder("board.view.pending", counter, DeltaCounter::pendingTotal)
+                    .description("DB에 아직 반영되지 않은 조회수 증가분")
+                    .tag("type", target.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    // 글 조회 1회 (같은 사람이 창 안에 다시 보면 무시). 세었으면 true
+    public boolean view(Target target, Long bno, HttpServletRequest request) {
+        String key = target.ordinal() + ":" + bno + ":" + viewer(request);
+        long now = System.currentTimeMillis();
+        synchronized (recentViews) {
+            Long expireAt = recentViews.get(key);
+            if (expireAt != null && expireAt > now) {
+                return false;
+            }
+            recentViews.put(key, now + dedupeWindowMillis);
+        }
+        views.get(target).increment(bno);
+        return true;
+    }
+
+    // 화면에 보여줄 때 DB 값에 더해줄 미반영 증가분
+    public long pending(Target target, Long bno) {
+        return views.get(target).pending(bno);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view.flush-interval-ms:1000}")
+    public void flush() {
+        for (Map.Entry<Target, DeltaCounter> entry : views.entrySet()) {
+            Map<Long, Long> deltas = entry.getValue().drain();
+            if (deltas.isEmpty()) {
+                continue;
+            }
+            try {
+                int rows = flushTimer.recordCallable(() -> viewCountRepository.addViewCounts(entry.getKey(), deltas));
+                log.debug("board view flush ({}): {} rows", entry.getKey(), rows);
+            } catch (Exception e) {
+                // 반영 실패 시 증가분을 다시 버퍼에 넣어 다음 주기에 재시도
+                log.warn("board view flush failed, will retry: {}", e.getMessage());
+                deltas.forEach(entry.getValue()::add);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 세션이 있으면 세션 id, 없으면 로그인 id, 그것도 없으면 IP (조회만 하려고 세션을 만들지는 않음)
+    private static String viewer(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "s:" + session.getId();
+        }
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "u:" + principal.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
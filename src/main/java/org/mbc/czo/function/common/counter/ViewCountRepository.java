@@ -0,0 +1,49 @@
+package org.mbc.czo.function.common.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 게시글 조회수 증가분을 테이블에 일괄 반영 (JPA 엔티티를 거치지 않고 JDBC batch update)
+@Repository
+@RequiredArgsConstructor
+public class ViewCountRepository {
+
+    // 조회수를 모으는 게시판 (테이블 / PK 컬럼)
+    public enum Target {
+        BOARD_ADMIN("update board_admin set view_count = view_count + ? where bno = ?"),
+        BOARD("update board set view_count = view_count + ? where bno = ?");
+
+        private final String sql;
+
+        Target(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // key: bno, value: 조회수 증가분. 반환값은 실제로 갱신된 행 수
+    public int addViewCounts(Target target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        // bno 순서로 정렬해서 여러 서버가 동시에 flush 해도 행 잠금 순서가 같도록 함 (데드락 방지)
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(deltas).entrySet()) {
+            args.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        // 실제로 갱신된 행 수 (그 사이 삭제된 글은 0). 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 라서 1건으로 셈
+        int rows = 0;
+        for (int count : jdbcTemplate.batchUpdate(target.sql, args)) {
+            rows += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return rows;
+    }
+}
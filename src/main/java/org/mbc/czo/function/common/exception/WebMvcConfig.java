@@ -1,13 +1,21 @@
 package org.mbc.czo.function.common.exception;
 
+import lombok.RequiredArgsConstructor;
+import org.mbc.czo.function.member.security.LoginMemberArgumentResolver;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final LoginMemberArgumentResolver loginMemberArgumentResolver; // @LoginMember Member 파라미터
+
     // application.properties의 uploadPath 값을 가져옵니다.
     @Value("${uploadPath}")
     String uploadPath;
@@ -19,4 +27,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addResourceLocations(uploadPath);
     }
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginMemberArgumentResolver);
+    }
+
 }
@@ -0,0 +1,9 @@
+package org.mbc.czo.function.common.paging;
+
+// 페이지 조회 시 전체 개수(COUNT)를 구하는 방식 (Paginator 참고)
+public enum CountStrategy {
+    EXACT,           // 매번 COUNT 쿼리
+    SKIP_WHEN_SHORT, // 첫 페이지가 다 안 찼거나 마지막 페이지면 COUNT 생략 (PageableExecutionUtils 와 같은 방식)
+    CACHED_APPROX,   // SKIP_WHEN_SHORT + 나머지는 같은 조건의 COUNT 결과를 TTL 동안 재사용 (근사값)
+    HAS_NEXT_ONLY    // COUNT 없이 한 건 더 읽어서 다음 페이지 여부만 판단
+}
@@ -0,0 +1,97 @@
+package org.mbc.czo.function.common.paging;
+
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// QueryDSL 페이지 조회 공통 처리
+// 데이터 쿼리(where/orderBy 까지 만든 것)에 offset/limit 를 붙여 조회하고, 전체 개수는 CountStrategy 에 따라 구한다.
+// COUNT 쿼리는 join/groupBy 없이 조건만 건 쿼리를 따로 넘겨받는다 (fetchCount()/fetchResults() 는 데이터 쿼리를 감싸서 더 느림).
+@Component
+public class Paginator {
+
+    private static final int MAX_CACHED_COUNTS = 1000;
+
+    private final long ttlMillis;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public Paginator(@Value("${paging.count-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // countKey: CACHED_APPROX 에서 같은 조건을 구분하는 키 ("board:t:검색어" 처럼 앞에 영역 prefix)
+    public <T> Page<T> page(JPQLQuery<T> query, Pageable pageable, CountStrategy strategy,
+                            String countKey, LongSupplier counter) {
+        if (pageable.isUnpaged()) {
+            List<T> content = query.fetch();
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        if (strategy == CountStrategy.HAS_NEXT_ONLY) {
+            Slice<T> slice = slice(query, pageable);
+            // 다음 페이지가 있으면 total 을 "지금까지 + 1" 로 둬서 PageResponseDTO 의 다음 버튼만 살림
+            long total = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+            return new PageImpl<>(slice.getContent(), pageable, total);
+        }
+
+        List<T> content = query.offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        switch (strategy) {
+            case EXACT:
+                return new PageImpl<>(content, pageable, counter.getAsLong());
+            case CACHED_APPROX:
+                return PageableExecutionUtils.getPage(content, pageable, () -> cachedCount(countKey, counter));
+            case SKIP_WHEN_SHORT:
+            default:
+                return PageableExecutionUtils.getPage(content, pageable, counter);
+        }
+    }
+
+    // COUNT 없이 size + 1 건을 읽어서 다음 페이지 여부만 판단
+    public <T> Slice<T> slice(JPQLQuery<T> query, Pageable pageable) {
+        List<T> content = query.offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // 글 등록/삭제 등으로 개수가 바뀌었을 때 해당 영역의 캐시된 개수를 버림
+    public void evictCounts(String keyPrefix) {
+        counts.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    // QueryDSL 을 거치지 않는 목록(리포지토리 count 쿼리)도 같은 count 캐시를 쓰도록 공개
+    public long cachedCount(String countKey, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(countKey);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.total;
+        }
+        long total = counter.getAsLong();
+        if (counts.size() >= MAX_CACHED_COUNTS) {
+            counts.clear(); // 검색 조건 조합이 많아져도 메모리가 무한히 늘지 않도록
+        }
+        counts.put(countKey, new CachedCount(total, now + ttlMillis));
+        return total;
+    }
+
+    private record CachedCount(long total, long expiresAt) {
+    }
+}
@@ -0,0 +1,450 @@
+package org.mbc.czo.function.common.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 게시판/상품 같은 텍스트 검색용 역색인 (Lucene, 서버 메모리)
+// 글자 종류(한글/영문/숫자/공백)와 상관없이 소문자로 바꾼 뒤 두 글자씩(bigram) 위치와 함께 색인하고,
+// 검색어의 bigram 이 연속으로 나오는 문서만 찾는다(구문 검색) -> like '%검색어%' (대소문자 무시) 와 같은 결과.
+// 점수순 ID와 하이라이트 스니펫을 돌려준다.
+// 서버 시작 시 전체 색인, 등록/수정/삭제는 커밋 후 반영, 다른 서버에서 바뀐 것은 하위 클래스의 주기적 재색인으로 맞춘다.
+// 재색인은 새 인덱스를 따로 만든 뒤 통째로 바꿔 끼우므로 그동안의 검색/갱신은 이전 인덱스에서 그대로 된다.
+// 하위 클래스는 loadAfter 로 DB 행을 Doc 으로 바꿔 주고, 도메인에 맞는 index/delete/search 를 열어 준다.
+@Log4j2
+public abstract class TextSearchIndex implements Closeable {
+
+    private static final String F_ID = "_id";
+    private static final String F_ID_SORT = "_idSort";
+    private static final int SNIPPET_LENGTH = 100;
+
+    // 점수가 같으면 최신 글(id 큰 것) 먼저
+    private static final Sort RANK = new Sort(SortField.FIELD_SCORE, new SortField(F_ID_SORT, SortField.Type.LONG, true));
+
+    private final String name;
+    private final boolean enabled;
+    private final int maxHits;
+    private final TransactionTemplate readOnlyTx;
+    private final Analyzer analyzer = new BigramAnalyzer();
+
+    private final Object writeLock = new Object();
+    private volatile Generation current;
+    private List<IndexTask> replay; // 재색인 중 들어온 갱신 (새 인덱스에 다시 적용), writeLock 으로 보호
+
+    private volatile boolean ready; // 첫 색인이 끝나기 전 false -> like 검색
+
+    protected TextSearchIndex(String name, boolean enabled, int maxHits, PlatformTransactionManager transactionManager) {
+        this.name = name;
+        this.enabled = enabled;
+        this.maxHits = maxHits;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        try {
+            this.current = new Generation(analyzer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 색인할 문서 한 건. 문서 키는 long id 하나
+    public static final class Doc {
+
+        private final long id;
+        private final Document document = new Document();
+
+        public Doc(long id) {
+            this.id = id;
+            document.add(new StringField(F_ID, String.valueOf(id), Field.Store.YES));
+            document.add(new NumericDocValuesField(F_ID_SORT, id));
+        }
+
+        // 검색만 하는 본문 필드
+        public Doc text(String field, String value) {
+            document.add(new TextField(field, value == null ? "" : value, Field.Store.NO));
+            return this;
+        }
+
+        // 검색 + 원문 저장 (스니펫용)
+        public Doc storedText(String field, String value) {
+            document.add(new TextField(field, value == null ? "" : value, Field.Store.YES));
+            return this;
+        }
+
+        // 분석하지 않는 필터용 값 (판매 상태 등). null 이면 필드 없음
+        public Doc keyword(String field, String value) {
+            if (value != null) {
+                document.add(new StringField(field, value, Field.Store.NO));
+            }
+            return this;
+        }
+
+        public long id() {
+            return id;
+        }
+    }
+
+    // "afterId 보다 큰 문서를 id 순으로 한 묶음" (읽기 전용 트랜잭션 안에서 호출). 빈 목록이면 재색인 끝
+    protected abstract List<Doc> loadAfter(long afterId);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    // 전체 재색인 - 새 인덱스에 모두 넣고, 그동안 들어온 갱신을 다시 적용한 뒤 바꿔 끼움
+    // 실패하면 새 인덱스는 버리고 이전 인덱스를 계속 사용
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Generation fresh = null;
+        synchronized (writeLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            fresh = new Generation(analyzer);
+            long lastId = 0;
+            int count = 0;
+            while (true) {
+                long after = lastId;
+                List<Doc> docs = readOnlyTx.execute(status -> loadAfter(after));
+                if (docs == null || docs.isEmpty()) {
+                    break;
+                }
+                for (Doc doc : docs) {
+                    fresh.writer.addDocument(doc.document);
+                }
+                lastId = docs.get(docs.size() - 1).id();
+                count += docs.size();
+            }
+            Generation old;
+            synchronized (writeLock) {
+                for (IndexTask task : replay) {
+                    task.run(fresh.writer);
+                }
+                replay = null;
+                fresh.searcherManager.maybeRefreshBlocking();
+                old = current;
+                current = fresh;
+            }
+            ready = true;
+            old.close(); // 검색 중이던 searcher 는 release 될 때까지 열려 있음
+            log.info("{} 검색 인덱스 재색인 완료: {}건, {}ms", name, count, System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            synchronized (writeLock) {
+                replay = null;
+            }
+            if (fresh != null) {
+                fresh.close();
+            }
+            log.warn("{} 검색 인덱스 재색인 실패 - {}", name, ready ? "이전 인덱스 계속 사용" : "다음 재색인까지 like 검색 사용", e);
+        }
+    }
+
+    // 등록/수정 - 트랜잭션 안이면 커밋 후 반영
+    protected void upsert(Doc doc) {
+        if (!enabled) {
+            return;
+        }
+        Term idTerm = idTerm(doc.id());
+        TxCallbacks.afterCommit(() -> apply(writer -> writer.updateDocument(idTerm, doc.document)));
+    }
+
+    // 삭제 - 트랜잭션 안이면 커밋 후 반영
+    protected void remove(long id) {
+        if (!enabled) {
+            return;
+        }
+        Term idTerm = idTerm(id);
+        TxCallbacks.afterCommit(() -> apply(writer -> writer.deleteDocuments(idTerm)));
+    }
+
+    // fields 중 한 곳에라도 검색어가 들어 있고 filters(필드 -> 값)가 모두 맞는 문서 ID 전체 (점수 높은 순)
+    // 인덱스를 쓸 수 없는 경우(꺼짐, 준비 전, 한 글자/빈 검색어)와 결과가 maxHits 개를 넘는 경우 null
+    // -> 호출한 쪽에서 like 검색 (잘린 목록으로 페이지/전체 개수를 만들지 않도록)
+    protected List<Long> searchIds(String keyword, Collection<String> fields, Map<String, String> filters) {
+        Query query = buildQuery(keyword, fields, filters);
+        if (query == null) {
+            return null;
+        }
+        IndexSearcher searcher = null;
+        try {
+            searcher = acquire();
+            TopDocs top = searcher.search(query, maxHits, RANK);
+            long total = top.totalHits.relation == TotalHits.Relation.EQUAL_TO ? top.totalHits.value : searcher.count(query);
+            if (total > top.scoreDocs.length) {
+                log.debug("{} 검색 결과 {}건 > {}건 - like 검색 사용: {}", name, total, maxHits, keyword);
+                return null;
+            }
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+            for (ScoreDoc scoreDoc : top.scoreDocs) {
+                ids.add(Long.parseLong(storedFields.document(scoreDoc.doc).get(F_ID)));
+            }
+            return ids;
+        } catch (IOException e) {
+            log.warn("{} 검색 인덱스 조회 실패 - like 검색 사용: {}", name, keyword, e);
+            return null;
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 화면에 보여줄 글들(ids)만 스니펫 생성. 검색어 부분은 <mark>로 감싸고 나머지는 HTML 이스케이프.
+    // snippetField 에 검색어가 없으면 앞부분 SNIPPET_LENGTH 자를 그대로 사용
+    protected Map<Long, String> highlight(String keyword, Collection<String> fields, String snippetField, Collection<Long> ids) {
+        Map<Long, String> result = new LinkedHashMap<>();
+        Query query = buildQuery(keyword, fields, Map.of());
+        if (query == null || ids.isEmpty()) {
+            return result;
+        }
+        QueryScorer scorer = new QueryScorer(query, snippetField);
+        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<mark>", "</mark>"), new SimpleHTMLEncoder(), scorer);
+        highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, SNIPPET_LENGTH));
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = acquire();
+            Map<Long, String> texts = storedValues(searcher, snippetField, ids);
+            for (Long id : ids) {
+                String text = texts.get(id);
+                if (text == null) {
+                    continue;
+                }
+                String fragment = highlighter.getBestFragment(analyzer, snippetField, text);
+                if (fragment == null) {
+                    String head = text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) : text;
+                    fragment = SimpleHTMLEncoder.htmlEncode(head);
+                }
+                result.put(id, fragment);
+            }
+        } catch (IOException | InvalidTokenOffsetsException e) {
+            log.warn("{} 스니펫 생성 실패: {}", name, keyword, e);
+        } finally {
+            release(searcher);
+        }
+        return result;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 점수순 ID 목록에서 요청한 페이지 구간만 잘라냄
+    public static List<Long> pageOf(List<Long> rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        return rankedIds.subList(from, to);
+    }
+
+    // IN 조회 결과는 순서가 보장되지 않으므로 점수 순서대로 다시 나열 (DB에서 사라진 ID는 건너뜀)
+    public static <T> List<T> inRankOrder(List<T> rows, List<Long> rankedIds, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : rows) {
+            byId.putIfAbsent(idOf.apply(row), row);
+        }
+        List<T> result = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            T row = byId.get(id);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    // 필드마다 "검색어의 bigram 이 이 순서대로 붙어 있음" 구문 쿼리, 필드끼리는 OR (like 조건을 or 로 묶던 것과 같음)
+    // 검색어는 like 와 같이 앞뒤 공백도 그대로 (한 글자 이하는 bigram 이 없으므로 null -> like)
+    private Query buildQuery(String keyword, Collection<String> fields, Map<String, String> filters) {
+        if (!enabled || !ready || keyword == null || fields == null || fields.isEmpty()) {
+            return null;
+        }
+        List<String> grams = analyze(keyword);
+        if (grams.isEmpty()) {
+            return null;
+        }
+        List<Query> perField = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+            for (int i = 0; i < grams.size(); i++) {
+                phrase.add(new Term(field, grams.get(i)), i);
+            }
+            perField.add(phrase.build());
+        }
+        Query text = perField.size() == 1 ? perField.get(0) : new DisjunctionMaxQuery(perField, 0.1f);
+        if (filters.isEmpty()) {
+            return text;
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        builder.add(text, BooleanClause.Occur.MUST);
+        filters.forEach((field, value) ->
+                builder.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.FILTER));
+        return builder.build();
+    }
+
+    private Map<Long, String> storedValues(IndexSearcher searcher, String field, Collection<Long> ids) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (Long id : ids) {
+            builder.add(new TermQuery(idTerm(id)), BooleanClause.Occur.SHOULD);
+        }
+        TopDocs top = searcher.search(builder.build(), ids.size());
+        StoredFields storedFields = searcher.storedFields();
+        Map<Long, String> values = new HashMap<>();
+        for (ScoreDoc scoreDoc : top.scoreDocs) {
+            Document doc = storedFields.document(scoreDoc.doc);
+            values.put(Long.parseLong(doc.get(F_ID)), doc.get(field));
+        }
+        return values;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private static Term idTerm(long id) {
+        return new Term(F_ID, String.valueOf(id));
+    }
+
+    // 지금 인덱스에 반영하고, 재색인 중이면 새 인덱스에도 다시 적용하도록 남겨 둠
+    private void apply(IndexTask task) {
+        synchronized (writeLock) {
+            if (replay != null) {
+                replay.add(task);
+            }
+            try {
+                task.run(current.writer);
+                current.searcherManager.maybeRefresh();
+            } catch (IOException | AlreadyClosedException e) {
+                log.warn("{} 검색 인덱스 갱신 실패 - 다음 재색인 때 반영", name, e);
+            }
+        }
+    }
+
+    // 재색인으로 인덱스가 바뀌는 순간 닫힌 쪽을 잡으면 새 인덱스로 한 번 더
+    private IndexSearcher acquire() throws IOException {
+        try {
+            return current.searcherManager.acquire();
+        } catch (AlreadyClosedException e) {
+            return current.searcherManager.acquire();
+        }
+    }
+
+    // SearcherManager.release 와 같음 (어느 세대의 searcher 든 reader 참조만 내리면 됨)
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcher.getIndexReader().decRef();
+        } catch (IOException e) {
+            log.warn("IndexSearcher 반환 실패", e);
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        current.close();
+        analyzer.close();
+    }
+
+    // 전체 텍스트를 소문자 bigram 으로 ("Hong12" -> ho, on, ng, g1, 12). 공백/기호도 글자로 취급
+    private static final class BigramAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new NGramTokenizer(2, 2);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run(IndexWriter writer) throws IOException;
+    }
+
+    // 인덱스 한 벌 (재색인마다 새로 만들어 바꿔 끼움)
+    // 디렉터리는 닫지 않음 - 아직 release 안 된 searcher 가 읽을 수 있도록 두고 GC 에 맡긴다 (메모리 디렉터리)
+    private final class Generation {
+
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private Generation(Analyzer analyzer) throws IOException {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        }
+
+        private void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+            } catch (IOException | RuntimeException e) {
+                log.warn("{} 검색 인덱스 종료 실패", name, e);
+            }
+        }
+    }
+}
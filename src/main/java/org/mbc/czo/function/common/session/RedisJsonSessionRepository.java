@@ -0,0 +1,361 @@
+package org.mbc.czo.function.common.session;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+// 로그인 세션 저장소 (Redis) - 서버가 여러 대여도 어느 서버로 가든 같은 세션
+// session:{id} 해시 하나에 v(버전), created, accessed, maxInactive, attr:{이름} 을 저장하고 TTL = maxInactive.
+// - 속성 값은 SessionAttributeCodec 으로 변환 (로그인 정보는 JDK 직렬화 대신 작은 JSON)
+// - 읽은 속성만 역직렬화하고, 저장 시 바뀐 속성만 HSET / 지운 속성만 HDEL (스크립트 한 번)
+// - 속성이 그대로면 마지막 접근 시각은 session.redis.touch-interval-seconds 마다만 갱신 (매 요청 쓰기 방지)
+// - near cache: 이 서버가 마지막으로 본 세션의 속성(변환된 문자열)을 버전과 함께 보관.
+//   다음 조회 때 v 등 작은 필드만 읽어서 버전이 같으면 속성은 다시 받지 않는다 (다른 서버가 바꿨으면 버전이 달라 전체 조회).
+//   저장할 때 덮어쓴 버전이 읽을 때의 버전과 다르면(그 사이 다른 요청이 저장) 이 서버가 가진 속성이 전부가 아니므로 near cache 에서 뺀다.
+@Log4j2
+public class RedisJsonSessionRepository implements SessionRepository<RedisJsonSessionRepository.RedisSession> {
+
+    private static final String KEY = "session:";
+    private static final String VERSION = "v";
+    private static final String CREATED = "created";
+    private static final String ACCESSED = "accessed";
+    private static final String MAX_INACTIVE = "maxInactive";
+    private static final String ATTR = "attr:";
+    private static final List<String> HEADER = List.of(VERSION, CREATED, ACCESSED, MAX_INACTIVE);
+
+    // 세션 저장 + 저장 직전 버전 반환 (버전 확인과 쓰기 사이에 다른 요청이 끼지 않도록 한 번에)
+    // KEYS[1] = 세션 키, KEYS[2] = 세션 id 가 바뀌었을 때 옛 키 (없으면 KEYS[1])
+    // ARGV[1] = TTL 초 (음수면 만료 없음), ARGV[2] = HSET 할 필드 수 n, 다음 2n 개 = 필드/값, 나머지 = HDEL 할 필드
+    private static final RedisScript<String> SAVE = new DefaultRedisScript<>(
+            "local prev = redis.call('HGET', KEYS[2], 'v') " +
+            "if KEYS[2] ~= KEYS[1] then redis.call('DEL', KEYS[2]) end " +
+            "local n = tonumber(ARGV[2]) " +
+            "if n > 0 then redis.call('HSET', KEYS[1], unpack(ARGV, 3, 2 + n * 2)) end " +
+            "if #ARGV > 2 + n * 2 then redis.call('HDEL', KEYS[1], unpack(ARGV, 3 + n * 2, #ARGV)) end " +
+            "if tonumber(ARGV[1]) < 0 then redis.call('PERSIST', KEYS[1]) " +
+            "else redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return prev", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> hashOps;
+    private final SessionAttributeCodec codec;
+    private final Duration defaultMaxInactiveInterval;
+    private final Duration touchInterval;
+    private final Map<String, Cached> nearCache;
+
+    public RedisJsonSessionRepository(StringRedisTemplate redisTemplate, SessionAttributeCodec codec,
+                                      Duration defaultMaxInactiveInterval, Duration touchInterval, int nearCacheMax) {
+        this.redisTemplate = redisTemplate;
+        this.hashOps = redisTemplate.opsForHash();
+        this.codec = codec;
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.touchInterval = touchInterval;
+        this.nearCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                return size() > nearCacheMax;
+            }
+        };
+    }
+
+    @Override
+    public RedisSession createSession() {
+        Instant now = Instant.now();
+        return new RedisSession(UUID.randomUUID().toString(), true, null, now, now, defaultMaxInactiveInterval, Map.of());
+    }
+
+    @Override
+    public void save(RedisSession session) {
+        String id = session.getId();
+        boolean idChanged = !session.isNew && !id.equals(session.originalId);
+
+        // 바뀐 속성만 다시 변환해서 비교 (읽기만 한 속성도 객체 안이 바뀌었을 수 있으므로 비교)
+        Map<String, String> changed = new HashMap<>();
+        for (Map.Entry<String, Object> entry : session.values.entrySet()) {
+            String encoded = codec.encode(entry.getValue());
+            if (!encoded.equals(session.loaded.get(entry.getKey()))) {
+                changed.put(entry.getKey(), encoded);
+            }
+        }
+        Set<String> removed = new HashSet<>(session.removed);
+        removed.retainAll(session.loaded.keySet());
+
+        boolean dataChanged = session.isNew || idChanged || session.maxInactiveChanged
+                || !changed.isEmpty() || !removed.isEmpty();
+        boolean touch = Duration.between(session.savedLastAccessedTime, session.lastAccessedTime).compareTo(touchInterval) >= 0;
+        if (!dataChanged && !touch) {
+            return;
+        }
+
+        Map<String, String> attributes = new HashMap<>(session.loaded);
+        attributes.putAll(changed);
+        attributes.keySet().removeAll(removed);
+        String version = dataChanged ? UUID.randomUUID().toString() : session.version;
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(ACCESSED, String.valueOf(session.lastAccessedTime.toEpochMilli()));
+        if (session.isNew || idChanged) { // 새 키에 전부 기록
+            fields.put(CREATED, String.valueOf(session.creationTime.toEpochMilli()));
+            attributes.forEach((name, value) -> fields.put(ATTR + name, value));
+        } else {
+            changed.forEach((name, value) -> fields.put(ATTR + name, value));
+        }
+        if (dataChanged) {
+            fields.put(VERSION, version);
+            fields.put(MAX_INACTIVE, String.valueOf(session.maxInactiveInterval.getSeconds()));
+        }
+
+        String key = KEY + id;
+        String oldKey = idChanged ? KEY + session.originalId : key; // 로그인 시 세션 id 변경 (session fixation 방지) - 옛 키는 지움
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(session.maxInactiveInterval.isNegative() ? -1 : session.maxInactiveInterval.getSeconds()));
+        args.add(String.valueOf(fields.size()));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        if (!session.isNew && !idChanged) {
+            removed.forEach(name -> args.add(ATTR + name));
+        }
+        String previousVersion = redisTemplate.execute(SAVE, List.of(key, oldKey), args.toArray());
+
+        if (idChanged) {
+            removeNear(session.originalId);
+        }
+        boolean sameVersion = Objects.equals(previousVersion, session.version);
+        session.saved(attributes, version);
+        if (dataChanged) {
+            if (sameVersion) {
+                putNear(id, new Cached(version, Map.copyOf(attributes)));
+            } else {
+                removeNear(id); // 읽은 뒤 다른 요청이 저장함 - 그 요청이 바꾼 속성이 attributes 에 없을 수 있음
+            }
+        }
+    }
+
+    @Override
+    public RedisSession findById(String id) {
+        String key = KEY + id;
+        Map<String, String> attributes;
+        String version;
+        String created;
+        String accessed;
+        String maxInactive;
+
+        Cached cached = getNear(id);
+        List<String> header = cached == null ? null : hashOps.multiGet(key, HEADER);
+        if (header != null && header.get(0) != null && header.get(0).equals(cached.version)) {
+            // 이 서버가 본 버전 그대로 -> 속성은 near cache 에서
+            version = header.get(0);
+            created = header.get(1);
+            accessed = header.get(2);
+            maxInactive = header.get(3);
+            attributes = cached.attributes;
+        } else {
+            Map<String, String> entries = hashOps.entries(key);
+            if (entries.isEmpty() || entries.get(VERSION) == null) {
+                removeNear(id);
+                return null;
+            }
+            version = entries.get(VERSION);
+            created = entries.get(CREATED);
+            accessed = entries.get(ACCESSED);
+            maxInactive = entries.get(MAX_INACTIVE);
+            attributes = new HashMap<>();
+            entries.forEach((field, value) -> {
+                if (field.startsWith(ATTR)) {
+                    attributes.put(field.substring(ATTR.length()), value);
+                }
+            });
+            putNear(id, new Cached(version, Map.copyOf(attributes)));
+        }
+
+        RedisSession session = new RedisSession(id, false, version,
+                Instant.ofEpochMilli(Long.parseLong(created)),
+                Instant.ofEpochMilli(Long.parseLong(accessed)),
+                Duration.ofSeconds(Long.parseLong(maxInactive)),
+                attributes);
+        if (session.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return session;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        redisTemplate.delete(KEY + id);
+        removeNear(id);
+    }
+
+    private Cached getNear(String id) {
+        synchronized (nearCache) {
+            return nearCache.get(id);
+        }
+    }
+
+    private void putNear(String id, Cached cached) {
+        synchronized (nearCache) {
+            nearCache.put(id, cached);
+        }
+    }
+
+    private void removeNear(String id) {
+        synchronized (nearCache) {
+            nearCache.remove(id);
+        }
+    }
+
+    private record Cached(String version, Map<String, String> attributes) {
+    }
+
+    // 한 요청 동안 쓰는 세션 객체. loaded 는 Redis 에 있는 변환된 값, values 는 이번 요청에서 읽거나 넣은 값
+    public final class RedisSession implements Session {
+
+        private String id;
+        private String originalId;
+        private boolean isNew;
+        private String version;
+        private final Instant creationTime;
+        private Instant lastAccessedTime;
+        private Instant savedLastAccessedTime;
+        private Duration maxInactiveInterval;
+        private boolean maxInactiveChanged;
+        private Map<String, String> loaded;
+        private final Map<String, Object> values = new HashMap<>();
+        private final Set<String> removed = new HashSet<>();
+
+        private RedisSession(String id, boolean isNew, String version, Instant creationTime, Instant lastAccessedTime,
+                             Duration maxInactiveInterval, Map<String, String> loaded) {
+            this.id = id;
+            this.originalId = id;
+            this.isNew = isNew;
+            this.version = version;
+            this.creationTime = creationTime;
+            this.lastAccessedTime = lastAccessedTime;
+            this.savedLastAccessedTime = lastAccessedTime;
+            this.maxInactiveInterval = maxInactiveInterval;
+            this.loaded = loaded;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String changeSessionId() {
+            id = UUID.randomUUID().toString();
+            return id;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getAttribute(String attributeName) {
+            if (removed.contains(attributeName)) {
+                return null;
+            }
+            if (values.containsKey(attributeName)) {
+                return (T) values.get(attributeName);
+            }
+            String encoded = loaded.get(attributeName);
+            if (encoded == null) {
+                return null;
+            }
+            try {
+                Object value = codec.decode(encoded);
+                values.put(attributeName, value);
+                return (T) value;
+            } catch (RuntimeException e) {
+                // 클래스가 바뀌어 못 읽는 옛 값 -> 없는 것으로 보고 지움
+                log.warn("세션 속성 읽기 실패 - id={}, name={}: {}", id, attributeName, e.getMessage());
+                removed.add(attributeName);
+                return null;
+            }
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            Set<String> names = new HashSet<>(loaded.keySet());
+            names.addAll(values.keySet());
+            names.removeAll(removed);
+            return names;
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            if (attributeValue == null) {
+                removeAttribute(attributeName);
+                return;
+            }
+            values.put(attributeName, attributeValue);
+            removed.remove(attributeName);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            values.remove(attributeName);
+            removed.add(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return creationTime;
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            this.lastAccessedTime = lastAccessedTime;
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return lastAccessedTime;
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            if (!interval.equals(maxInactiveInterval)) {
+                maxInactiveChanged = true;
+            }
+            this.maxInactiveInterval = interval;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return maxInactiveInterval;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return !maxInactiveInterval.isNegative()
+                    && Instant.now().minus(maxInactiveInterval).compareTo(lastAccessedTime) >= 0;
+        }
+
+        private void saved(Map<String, String> attributes, String version) {
+            this.loaded = attributes;
+            this.version = version;
+            this.originalId = id;
+            this.isNew = false;
+            this.savedLastAccessedTime = lastAccessedTime;
+            this.maxInactiveChanged = false;
+            this.removed.clear();
+        }
+    }
+}
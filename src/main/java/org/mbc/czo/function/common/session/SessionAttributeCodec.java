@@ -0,0 +1,58 @@
+package org.mbc.czo.function.common.session;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.Base64;
+
+// 세션 속성 값 <-> Redis 문자열 변환
+// "j:" + JSON  - 문자열/boolean, SecurityContextImpl, 그리고 ObjectMapper 에 mixin 이 등록된 타입 (로그인 정보, SavedRequest, OAuth2 요청 등)
+// "s:" + Base64(JDK 직렬화) - 그 외 (숫자는 JSON 으로 읽으면 Long/Integer 가 바뀌므로 여기로, flash 메시지 목록 같이 드물게 쓰는 값)
+// JSON 역직렬화는 @class 허용 목록(SecurityJackson2Modules)을 따르므로, mixin 없는 타입은 JSON 으로 쓰지 않는다.
+public class SessionAttributeCodec {
+
+    private static final String JSON = "j:";
+    private static final String SERIALIZED = "s:";
+
+    private final ObjectMapper objectMapper;
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer;
+
+    public SessionAttributeCodec(ObjectMapper objectMapper, ClassLoader classLoader) {
+        this.objectMapper = objectMapper;
+        this.deserializer = new DeserializingConverter(classLoader);
+    }
+
+    public String encode(Object value) {
+        if (isJsonType(value)) {
+            try {
+                return JSON + objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                // JSON 으로 못 쓰는 값이면 JDK 직렬화로
+            }
+        }
+        return SERIALIZED + Base64.getEncoder().encodeToString(serializer.convert(value));
+    }
+
+    public Object decode(String encoded) {
+        if (encoded.startsWith(JSON)) {
+            try {
+                return objectMapper.readValue(encoded.substring(JSON.length()), Object.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("세션 속성 JSON 변환 실패", e);
+            }
+        }
+        if (encoded.startsWith(SERIALIZED)) {
+            return deserializer.convert(Base64.getDecoder().decode(encoded.substring(SERIALIZED.length())));
+        }
+        throw new IllegalStateException("알 수 없는 세션 속성 형식");
+    }
+
+    private boolean isJsonType(Object value) {
+        return value instanceof String || value instanceof Boolean || value.getClass() == SecurityContextImpl.class
+                || objectMapper.getSerializationConfig().findMixInClassFor(value.getClass()) != null;
+    }
+}
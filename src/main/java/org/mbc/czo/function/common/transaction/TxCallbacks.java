@@ -0,0 +1,40 @@
+package org.mbc.czo.function.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션이 끝난 뒤 실행할 작업 등록 (캐시 비우기, 검색 인덱스 반영, 백그라운드 작업 제출 등)
+// 트랜잭션 밖에서 호출되면 바로 실행한다.
+public final class TxCallbacks {
+
+    private TxCallbacks() {
+    }
+
+    // 커밋 후 실행 (롤백되면 실행 안 함). 커밋 전에 하면 다른 요청이 아직 안 보이는 옛 값을 다시 채울 수 있음
+    public static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 롤백됐을 때만 실행 (트랜잭션 밖이면 아무것도 안 함)
+    public static void afterRollback(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        task.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.mbc.czo.function.image.constant;
+
+// 업로드 원본으로부터 만드는 축소 이미지 종류 (모두 JPEG 재압축본)
+public enum ImageVariant {
+    THUMB(320, "_thumb"),    // 목록 썸네일
+    DETAIL(800, "_detail"),  // 상세 화면
+    ZOOM(1600, "_zoom");     // 확대 보기
+
+    private final int maxSize;    // 가로/세로 중 긴 쪽 최대 픽셀
+    private final String suffix;
+
+    ImageVariant(int maxSize, String suffix) {
+        this.maxSize = maxSize;
+        this.suffix = suffix;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    // "uuid.png" -> "uuid_thumb.jpg"
+    public String fileNameOf(String storedFileName) {
+        int dot = storedFileName.lastIndexOf(".");
+        String baseName = dot < 0 ? storedFileName : storedFileName.substring(0, dot);
+        return baseName + suffix + ".jpg";
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -15,14 +16,22 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseImage {
 
+    // IDENTITY 는 INSERT 를 해야 id 를 알 수 있어 JDBC batch 가 꺼지므로 시퀀스 사용 (게시글 이미지 20~30장을 한 번에 INSERT)
+    // allocationSize 만큼 id 를 미리 받아 두고 씀. 프로필/게시글 이미지가 같은 시퀀스를 공유 (db.sql 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "base_image_seq")
+    @SequenceGenerator(name = "base_image_seq", sequenceName = "base_image_seq", allocationSize = 50)
     private Long id;
 
     private String originalFileName;
     private String storedFileName;
     private String uploadPath;
 
+    // 축소본 경로 (uploadPath와 같은 형식, 예: "board/uuid_thumb.jpg"). 생성 전이면 null -> 원본 사용
+    private String thumbPath;
+    private String detailPath;
+    private String zoomPath;
+
     private LocalDateTime uploadDate = LocalDateTime.now();
 
     // 생성자, Getter/Setter
@@ -34,5 +43,11 @@ public abstract class BaseImage {
         this.uploadPath = uploadPath;
     }
 
+    public void updateVariants(String thumbPath, String detailPath, String zoomPath) {
+        this.thumbPath = thumbPath;
+        this.detailPath = detailPath;
+        this.zoomPath = zoomPath;
+    }
+
     // Getter / Setter 생략
 }
@@ -1,38 +1,47 @@
 package org.mbc.czo.function.image.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
 import org.mbc.czo.function.boardAdmin.repository.BoardAdminRepository;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
 import org.mbc.czo.function.image.domain.BoardAdminImages;
 import org.mbc.czo.function.image.domain.MemberProfileImage;
 import org.mbc.czo.function.image.repository.BoardAdminImageJpaRepository;
 import org.mbc.czo.function.image.repository.MemberProfileImageJpaRepository;
 import org.mbc.czo.function.member.domain.Member;
 import org.mbc.czo.function.member.repository.MemberJpaRepository;
+import org.mbc.czo.function.member.service.MemberCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class ImageUploadService {
 
     private final MemberProfileImageJpaRepository memberProfileImageJpaRepository;
     private final BoardAdminImageJpaRepository boardAdminImageJpaRepository;
 
     private final MemberJpaRepository memberJpaRepository;
+    private final MemberCache memberCache;
     private final BoardAdminRepository boardAdminRepository;
 
+    private final ImageVariantService imageVariantService;
+    private final TaskExecutor imageUploadTaskExecutor; // 업로드 파일 디스크 저장 (1단계)
+
 /*
     private final ProductImageRepository productImageRepository;
     private final ProductRepository productRepository;
@@ -43,138 +52,210 @@ public class ImageUploadService {
 
     private final String uploadRoot = "C:/image";
 
+    public ImageUploadService(MemberProfileImageJpaRepository memberProfileImageJpaRepository,
+                              BoardAdminImageJpaRepository boardAdminImageJpaRepository,
+                              MemberJpaRepository memberJpaRepository,
+                              MemberCache memberCache,
+                              BoardAdminRepository boardAdminRepository,
+                              ImageVariantService imageVariantService,
+                              @Qualifier("imageUploadTaskExecutor") TaskExecutor imageUploadTaskExecutor) {
+        this.memberProfileImageJpaRepository = memberProfileImageJpaRepository;
+        this.boardAdminImageJpaRepository = boardAdminImageJpaRepository;
+        this.memberJpaRepository = memberJpaRepository;
+        this.memberCache = memberCache;
+        this.boardAdminRepository = boardAdminRepository;
+        this.imageVariantService = imageVariantService;
+        this.imageUploadTaskExecutor = imageUploadTaskExecutor;
+    }
+
     public String getUUID(){
         return UUID.randomUUID().toString();
     }
 
     //Transactional = DB 작업이 모두 완료되어야 커밋. 중간에 실패하면 롤백.
     //@Transactional가 붙어있으면 JPA에서 변경 감지후 자동으로 DB 업데이트 (new객체가 아니면)
+    // 게시글 하나에 이미지 20~30장씩 올라오므로
+    // 1단계: 파일 저장을 imageUploadTaskExecutor 에서 병렬로 (순서는 그대로)
+    // 2단계: 회원/게시글은 한 번만 조회하고, 이미지 행은 saveAll -> 커밋 때 JDBC batch insert (BaseImage 는 시퀀스 id)
     @Transactional
     public UploadResult uploadAndSaveImages(List<MultipartFile> files, Map<String, String> extraData) throws IOException {
         List<String> savedUrls = new ArrayList<>();
         String tempKey = null;
 
-        for (MultipartFile file : files) {
-
-            //파일 비어있으면 무시
-            if (file.isEmpty()) continue;
-
-            String originalName = file.getOriginalFilename(); // 원본 파일명
-            //같은 파일명 충돌 방지
+        //파일 비어있으면 무시
+        List<MultipartFile> targets = files.stream().filter(file -> !file.isEmpty()).toList();
 
-            String extension = originalName.substring(originalName.lastIndexOf(".")); // 확장자
-            String uuid = UUID.randomUUID().toString();          //파일명 중복을위한 uuid
-            String savedName = uuid + extension;             // 서버에 저장할 이름
-
-            // 타입별 폴더 결정
-            String subDir = "etc"; // 기본값
-            if (extraData.containsKey("userId")) {
-                subDir = "profile";
-            } else if (extraData.containsKey("productId")) {
-                subDir = "product";
-            } else if (extraData.containsKey("boardId")) {
-                subDir = "board";
+        // 타입별 폴더 결정
+        String subDir = "etc"; // 기본값
+        if (extraData.containsKey("userId")) {
+            subDir = "profile";
+            //한 계정에 이미지는 한개 -> 여러 장이면 마지막 파일만 (예전에도 마지막 파일로 덮어썼음)
+            if (targets.size() > 1) {
+                targets = List.of(targets.get(targets.size() - 1));
             }
+        } else if (extraData.containsKey("productId")) {
+            subDir = "product";
+        } else if (extraData.containsKey("boardId")) {
+            subDir = "board";
+        }
+        if (targets.isEmpty()) {
+            return new UploadResult(savedUrls, null);
+        }
 
-            // 최종 경로
-            File folder = new File(uploadRoot, subDir);
-
-            //해당 경로가 존재하는지 확인. 없으면 생성
-            if (!folder.exists()) folder.mkdirs();
-
-            File destination = new File(folder, savedName);
-            file.transferTo(destination);
-
-            // DB에는 "profile/uuid.png" 만 저장
-            String relativePath = subDir + "/" + savedName;
-
-
-
-            // DB 저장
-            if (extraData.containsKey("userId")) {
-
-
-                String userId = (extraData.get("userId"));
+        // 연결할 회원/게시글은 파일을 쓰기 전에 한 번만 확인 (없으면 파일도 남기지 않음)
+        Member member = null;
+        BoardAdmin boardAdmin = null;
+        if (extraData.containsKey("userId")) {
+            //orElseThrow(...) → Optional 안에 값이 있으면 꺼내고, 없으면 예외 발생
+            member = memberJpaRepository.findById(extraData.get("userId"))
+                    .orElseThrow(() -> new IllegalArgumentException("회원 없음"));
+        } else if (extraData.containsKey("boardId")) {
+            String boardIdStr = extraData.get("boardId");
+            // 게시글 생성 전 임시 적으로 boardId값에 temp를 삽입
+            if ("temp".equals(boardIdStr)) {
+                tempKey = extraData.get("tempKey");
+                // tempKey 없으면 업로드 중단
+                if (tempKey == null || tempKey.isEmpty()) {
+                    throw new IllegalArgumentException("tempKey가 존재하지 않습니다. 업로드를 중단합니다.");
+                }
+            }
+            // 게시글이 이미 존재하면 boardId로 바로 연결
+            else {
+                boardAdmin = boardAdminRepository.findById(Long.parseLong(boardIdStr))
+                        .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));
+            }
+        }
 
-                //orElseThrow(...) → Optional 안에 값이 있으면 꺼내고, 없으면 예외 발생
-                Member member = memberJpaRepository.findById(userId)
-                        .orElseThrow(() -> new IllegalArgumentException("회원 없음"));
+        // 1단계: 디스크 저장
+        List<StoredFile> storedFiles = storeAll(targets, subDir);
+        deleteOnRollback(storedFiles); // DB 저장이 롤백되면 방금 쓴 파일도 지움
+
+        // 2단계: DB 저장
+        if (member != null) {
+            saveProfileImage(member, storedFiles.get(0));
+        } else if (extraData.containsKey("productId")) {
+            //Long productId = Long.parseLong(extraData.get("productId"));
+            // log.info("productId sucess: {}", productId);
+           /* Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품 없음"));
+            ProductImage productImage = new ProductImage(originalName, savedName, url, product);
+            productImageRepository.save(productImage);
+            product.getProductImages().add(productImage);*/
+        } else if (extraData.containsKey("boardId")) {
+            //board admin은 null( 아직 게시물 생성 전이라) 대신 tempKey삽입
+            List<BoardAdminImages> images = new ArrayList<>(storedFiles.size());
+            for (StoredFile stored : storedFiles) {
+                images.add(new BoardAdminImages(stored.originalName(), stored.savedName(), stored.relativePath(),
+                        boardAdmin == null ? tempKey : null, boardAdmin));
+            }
+            boardAdminImageJpaRepository.saveAll(images); // id 는 시퀀스에서 미리 받으므로 INSERT 는 커밋 때 한 번에
+            for (BoardAdminImages image : images) {
+                imageVariantService.requestBaseImageVariants(BoardAdminImages.class, image.getId(), uploadRoot, image.getUploadPath());
+                // 프론트에는 "/uploads/board/uuid.png" 로 응답
+                savedUrls.add("/uploads/" + image.getUploadPath());
+            }
+        }
+        return new UploadResult(savedUrls, tempKey);
+    }
 
-                Optional<MemberProfileImage> resultIMG = memberProfileImageJpaRepository.findByMember_Mid(userId);
+    private void saveProfileImage(Member member, StoredFile stored) {
+        Optional<MemberProfileImage> resultIMG = memberProfileImageJpaRepository.findByMember_Mid(member.getMid());
+
+        MemberProfileImage profileImage;
+        //한 계정에 이미지는 한개, 이미 있으면 update 없으면 new생성후 insert
+        if (resultIMG.isPresent()) {
+            profileImage = resultIMG.get();
+            Path oldFilePath = Paths.get(uploadRoot, profileImage.getUploadPath()); // uploadRoot + profile/uuid.png
+            profileImage.setOriginalFileName(stored.originalName());
+            profileImage.setStoredFileName(stored.savedName());
+            profileImage.setUploadPath(stored.relativePath());
+            TxCallbacks.afterCommit(() -> deleteOldProfileFile(oldFilePath)); // 새 이미지가 DB에 반영된 뒤에 기존 파일 삭제
+        } else {
+            profileImage = new MemberProfileImage(stored.originalName(), stored.savedName(), stored.relativePath(), member);
+            memberProfileImageJpaRepository.save(profileImage);
+        }
+        imageVariantService.requestBaseImageVariants(MemberProfileImage.class, profileImage.getId(), uploadRoot, stored.relativePath());
 
-                MemberProfileImage profileImage;
-                //한 계정에 이미지는 한개, 이미 있으면 update 없으면 new생성후 insert
-                if (resultIMG.isPresent()) {
-                    MemberProfileImage oldImage = resultIMG.get();
-                    Path oldFilePath = Paths.get(uploadRoot, oldImage.getUploadPath()); // uploadRoot + profile/uuid.png
-                    File oldFile = oldFilePath.toFile();
+        // 연관관계 주입 필수 (member 는 이 트랜잭션에서 조회한 엔티티라 따로 save 하지 않아도 반영)
+        member.setProfileImage(profileImage);
+        memberCache.evict(member.getMid()); // 로그인 정보의 프로필 이미지 경로
+    }
 
-                    profileImage = resultIMG.get();
-                    profileImage.setOriginalFileName(originalName);
-                    profileImage.setStoredFileName(savedName);
-                    profileImage.setUploadPath(relativePath);
+    // 파일들을 업로드 풀에서 나눠 쓰고, 요청 순서대로 결과를 돌려줌. 하나라도 실패하면 이미 쓴 파일은 지우고 예외
+    private List<StoredFile> storeAll(List<MultipartFile> files, String subDir) throws IOException {
+        // 최종 경로
+        File folder = new File(uploadRoot, subDir);
+        //해당 경로가 존재하는지 확인. 없으면 생성
+        if (!folder.exists()) folder.mkdirs();
 
-                    if (oldFile.exists()) {
-                        boolean deleted = oldFile.delete();
-                        log.info("기존 프로필 파일 삭제 {}: {}", deleted ? "성공" : "실패", oldFile.getAbsolutePath());
-                    } else {
-                        log.warn("기존 파일이 존재하지 않음: {}", oldFile.getAbsolutePath());
-                    }
-                } else {
-                    profileImage = new MemberProfileImage(originalName, savedName, relativePath, member);
-                }
+        List<CompletableFuture<StoredFile>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> store(file, folder, subDir), imageUploadTaskExecutor));
+        }
 
-                //MemberProfileImage profileImage = new MemberProfileImage(originalName, savedName, relativePath, member);
-                memberProfileImageJpaRepository.save(profileImage);
-
-                // 연관관계 주입 필수
-                member.setProfileImage(profileImage);
-                memberJpaRepository.save(member);
-
-            } else if (extraData.containsKey("productId")) {
-                //Long productId = Long.parseLong(extraData.get("productId"));
-                // log.info("productId sucess: {}", productId);
-               /* Product product = productRepository.findById(productId)
-                        .orElseThrow(() -> new IllegalArgumentException("상품 없음"));
-                ProductImage productImage = new ProductImage(originalName, savedName, url, product);
-                productImageRepository.save(productImage);
-                product.getProductImages().add(productImage);*/
-            } else if (extraData.containsKey("boardId")) {
-
-                String boardIdStr = extraData.get("boardId");
-                // 게시글 생성 전 임시 적으로 boardId값에 temp를 삽입
-                if ("temp".equals(boardIdStr)) {
-
-                    tempKey = extraData.get("tempKey");
-                    // tempKey 없으면 업로드 중단
-                    if (tempKey == null || tempKey.isEmpty()) {
-                        throw new IllegalArgumentException("tempKey가 존재하지 않습니다. 업로드를 중단합니다.");
-                    }
-                    //board admin은 null( 아직 게시물 생성 전이라) 대신 tempKey삽입
-                    BoardAdminImages boardAdminImages =  new BoardAdminImages(originalName, savedName, relativePath, tempKey, null);
-
-                    boardAdminImageJpaRepository.save(boardAdminImages);
+        List<StoredFile> stored = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (CompletableFuture<StoredFile> future : futures) {
+            try {
+                stored.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
                 }
-                // 게시글이 이미 존재하면 boardId로 바로 연결
-                else{
+            }
+        }
+        if (failure != null) {
+            stored.forEach(this::deleteQuietly);
+            if (failure instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (failure instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(failure);
+        }
+        return stored;
+    }
 
-                    Long boardId = Long.parseLong(boardIdStr);
-                    BoardAdmin boardAdmin = boardAdminRepository.findById(boardId)
-                            .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));
+    private StoredFile store(MultipartFile file, File folder, String subDir) {
+        String originalName = file.getOriginalFilename(); // 원본 파일명
+        //같은 파일명 충돌 방지
+        String extension = originalName.substring(originalName.lastIndexOf(".")); // 확장자
+        String savedName = getUUID() + extension;             // 서버에 저장할 이름
+        try {
+            file.transferTo(new File(folder, savedName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // DB에는 "profile/uuid.png" 만 저장
+        return new StoredFile(originalName, savedName, subDir + "/" + savedName);
+    }
 
-                    BoardAdminImages boardAdminImages = new BoardAdminImages(
-                            originalName, savedName, relativePath, null, boardAdmin
-                    );
-                    boardAdminImageJpaRepository.save(boardAdminImages);
+    private void deleteOnRollback(List<StoredFile> storedFiles) {
+        TxCallbacks.afterRollback(() -> storedFiles.forEach(this::deleteQuietly));
+    }
 
+    private void deleteOldProfileFile(Path oldFilePath) {
+        File oldFile = oldFilePath.toFile();
+        if (oldFile.exists()) {
+            imageVariantService.deleteVariants(oldFilePath); // 기존 축소본도 삭제
+            boolean deleted = oldFile.delete();
+            log.info("기존 프로필 파일 삭제 {}: {}", deleted ? "성공" : "실패", oldFile.getAbsolutePath());
+        } else {
+            log.warn("기존 파일이 존재하지 않음: {}", oldFile.getAbsolutePath());
+        }
+    }
 
-                }
-                // 프론트에는 "/uploads/profile/uuid.png" 로 응답
-                String url = "/uploads/" + relativePath;
-                savedUrls.add(url);
-            }
+    private void deleteQuietly(StoredFile stored) {
+        try {
+            Files.deleteIfExists(Paths.get(uploadRoot, stored.relativePath()));
+        } catch (IOException e) {
+            log.warn("업로드 파일 정리 실패 {}: {}", stored.relativePath(), e.getMessage());
         }
-        return new UploadResult(savedUrls, tempKey);
+    }
+
+    // 디스크에 저장한 파일 하나 (원본 파일명, 저장 파일명, "board/uuid.png")
+    private record StoredFile(String originalName, String savedName, String relativePath) {
     }
 
     @Transactional
@@ -186,6 +267,7 @@ public class ImageUploadService {
         // 실제 파일 삭제
         Path filePath = Paths.get(uploadRoot, image.getUploadPath());
         Files.deleteIfExists(filePath);
+        imageVariantService.deleteVariants(filePath);
 
         // DB 삭제
         boardAdminImageJpaRepository.delete(image);
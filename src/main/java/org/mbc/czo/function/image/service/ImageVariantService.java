@@ -0,0 +1,154 @@
+package org.mbc.czo.function.image.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.mbc.czo.function.image.constant.ImageVariant;
+import org.mbc.czo.function.image.domain.BaseImage;
+import org.mbc.czo.function.product.domain.ItemImg;
+import org.mbc.czo.function.product.service.ItemDtlCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 업로드된 원본 이미지로 썸네일/상세/확대용 축소본을 만드는 백그라운드 작업
+// - 업로드 트랜잭션이 커밋된 뒤 imageTaskExecutor(크기 제한 있는 풀)에서 실행
+// - 변환이 끝나면 ItemImg.thumbUrl 등 / BaseImage.thumbPath 등에 경로를 저장
+// - 변환 전이거나 실패하면 경로가 null이라 화면은 원본을 그대로 사용
+@Log4j2
+@Service
+public class ImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final TaskExecutor imageTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager em;
+    private final ItemDtlCache itemDtlCache;
+
+    public ImageVariantService(@Qualifier("imageTaskExecutor") TaskExecutor imageTaskExecutor,
+                               PlatformTransactionManager transactionManager,
+                               EntityManager em,
+                               ItemDtlCache itemDtlCache) {
+        this.imageTaskExecutor = imageTaskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.em = em;
+        this.itemDtlCache = itemDtlCache;
+    }
+
+    // 상품 이미지 (imgDir: itemImgLocation, urlPrefix: "/images/item/")
+    public void requestItemImgVariants(Long itemImgId, String imgDir, String imgName, String urlPrefix) {
+        afterCommit(() -> {
+            Map<ImageVariant, String> names = generate(Path.of(imgDir, imgName));
+            if (names.isEmpty()) {
+                return;
+            }
+            Long itemId = transactionTemplate.execute(status -> {
+                ItemImg itemImg = em.find(ItemImg.class, itemImgId);
+                if (itemImg == null || !imgName.equals(itemImg.getImgName())) {
+                    return null; // 그 사이 삭제됐거나 다른 이미지로 교체됨
+                }
+                itemImg.updateVariants(urlPrefix + names.get(ImageVariant.THUMB),
+                        urlPrefix + names.get(ImageVariant.DETAIL),
+                        urlPrefix + names.get(ImageVariant.ZOOM));
+                return itemImg.getItem().getId();
+            });
+            itemDtlCache.evict(itemId);
+        });
+    }
+
+    // 게시판/프로필 이미지 (rootDir: "C:/image", relativePath: "board/uuid.png")
+    public void requestBaseImageVariants(Class<? extends BaseImage> type, Long imageId, String rootDir, String relativePath) {
+        afterCommit(() -> {
+            Map<ImageVariant, String> names = generate(Path.of(rootDir, relativePath));
+            if (names.isEmpty()) {
+                return;
+            }
+            String dir = relativePath.contains("/") ? relativePath.substring(0, relativePath.lastIndexOf("/") + 1) : "";
+            transactionTemplate.executeWithoutResult(status -> {
+                BaseImage image = em.find(type, imageId);
+                if (image == null || !relativePath.equals(image.getUploadPath())) {
+                    return;
+                }
+                image.updateVariants(dir + names.get(ImageVariant.THUMB),
+                        dir + names.get(ImageVariant.DETAIL),
+                        dir + names.get(ImageVariant.ZOOM));
+            });
+        });
+    }
+
+    // 원본 파일을 지울 때 같이 만들어 둔 축소본도 삭제
+    public void deleteVariants(Path original) {
+        String fileName = original.getFileName().toString();
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(original.resolveSibling(variant.fileNameOf(fileName)));
+            } catch (IOException e) {
+                log.warn("variant delete failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 원본과 같은 폴더에 축소본 생성. 이미지가 아니거나 실패하면 빈 맵
+    Map<ImageVariant, String> generate(Path source) {
+        Map<ImageVariant, String> names = new EnumMap<>(ImageVariant.class);
+        try {
+            BufferedImage original = ImageIO.read(source.toFile());
+            if (original == null) {
+                log.info("not an image, skip variants: {}", source);
+                return names;
+            }
+            BufferedImage rgb = toRgb(original);
+            String fileName = source.getFileName().toString();
+            for (ImageVariant variant : ImageVariant.values()) {
+                String variantName = variant.fileNameOf(fileName);
+                Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(rgb);
+                if (rgb.getWidth() <= variant.getMaxSize() && rgb.getHeight() <= variant.getMaxSize()) {
+                    builder.scale(1.0); // 원본이 더 작으면 키우지 않고 재압축만
+                } else {
+                    builder.size(variant.getMaxSize(), variant.getMaxSize()); // 비율 유지
+                }
+                builder.outputFormat("jpg")
+                        .outputQuality(JPEG_QUALITY)
+                        .toFile(source.resolveSibling(variantName).toFile());
+                names.put(variant, variantName);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("image variant generation failed for {}: {}", source, e.getMessage());
+            names.clear();
+        }
+        return names;
+    }
+
+    // JPEG는 투명도가 없으므로 투명 배경(PNG 등)은 흰색으로 채움
+    private BufferedImage toRgb(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return rgb;
+    }
+
+    // 업로드 트랜잭션이 커밋돼서 행이 보이는 시점에 작업 제출
+    private void afterCommit(Runnable task) {
+        TxCallbacks.afterCommit(() -> imageTaskExecutor.execute(task));
+    }
+}
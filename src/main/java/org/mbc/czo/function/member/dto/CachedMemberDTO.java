@@ -0,0 +1,37 @@
+package org.mbc.czo.function.member.dto;
+
+import org.mbc.czo.function.member.constant.Role;
+import org.mbc.czo.function.member.domain.Member;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// MemberCache 에 저장하는 회원 정보 (엔티티 대신 변하지 않는 값만)
+// 로그인(MemberSecurityDTO 생성)과 컨트롤러의 회원 참조에 필요한 만큼만 담는다.
+public record CachedMemberDTO(String mid,
+                              String memail,
+                              String mpassword,
+                              String mname,
+                              String mphoneNumber,
+                              String mpostcode,
+                              String maddress,
+                              String mdetailAddress,
+                              Long mmileage,
+                              boolean misActivate,
+                              boolean misSocialActivate,
+                              Set<Role> roles,
+                              String profileImagePath) {
+
+    public static CachedMemberDTO from(Member member) {
+        Set<Role> roles = member.getMroleSet().stream()
+                .map(memberRole -> memberRole.getRole())
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Role.class)));
+        String profileImagePath = member.getProfileImage() == null ? null
+                : "/uploads/" + member.getProfileImage().getUploadPath();
+        return new CachedMemberDTO(member.getMid(), member.getMemail(), member.getMpassword(), member.getMname(),
+                member.getMphoneNumber(), member.getMpostcode(), member.getMaddress(), member.getMdetailAddress(),
+                member.getMmileage(), member.isMisActivate(), member.isMisSocialActivate(),
+                Set.copyOf(roles), profileImagePath);
+    }
+}
@@ -0,0 +1,7 @@
+package org.mbc.czo.function.member.email.constant;
+
+public enum OutboxMailStatus {
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENT,    // 발송 완료
+    FAILED   // 재시도 횟수 초과
+}
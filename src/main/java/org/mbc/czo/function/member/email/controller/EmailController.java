@@ -1,5 +1,6 @@
 package org.mbc.czo.function.member.email.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
 
 import org.mbc.czo.function.member.email.emailData.DataResponse;
@@ -30,9 +31,10 @@ public class EmailController {
 
 
     @GetMapping("/send")
-    public DataResponse<DataResponseCode> sendMail(@RequestParam("receiver") String receiver) {
+    public DataResponse<DataResponseCode> sendMail(@RequestParam("receiver") String receiver, HttpServletRequest request) {
         log.info("EmailController sendMail");
-        DataResponse<DataResponseCode> response = emailService.sendMail(receiver);
+        // IP 별 발송 제한 키 - 프록시 뒤에서도 클라이언트 IP 가 오도록 server.forward-headers-strategy=native 설정 (application.properties)
+        DataResponse<DataResponseCode> response = emailService.sendMail(receiver, request.getRemoteAddr());
 
         return response;
     }
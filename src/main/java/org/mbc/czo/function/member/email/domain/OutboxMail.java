@@ -0,0 +1,79 @@
+package org.mbc.czo.function.member.email.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.mbc.czo.function.member.email.constant.OutboxMailStatus;
+
+import java.time.LocalDateTime;
+
+// 메일 발송 대기열 (mail_outbox)
+// 요청 스레드는 이 테이블에 한 줄 넣고 끝내고, MailDispatcher 가 모아서 발송한다.
+// 서버가 재시작돼도 발송 안 된 메일이 남아 있어서 이어서 보낸다.
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        // 발송할 메일 찾기 (status = PENDING and next_attempt_at <= now order by id)
+        @Index(name = "idx_mail_outbox_due", columnList = "status, nextAttemptAt, id")
+})
+@Getter
+@NoArgsConstructor
+public class OutboxMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String receiver;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(length = 4000, nullable = false)
+    private String body; // html
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OutboxMailStatus status;
+
+    private int attempts; // 발송 시도 횟수
+
+    // 이 시각 이후에 발송 대상. 발송 중인 메일은 lease 만큼 미뤄 두어서 서버가 죽으면 그 뒤에 다시 잡힘
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static OutboxMail of(String receiver, String subject, String body) {
+        OutboxMail mail = new OutboxMail();
+        mail.receiver = receiver;
+        mail.subject = subject;
+        mail.body = body;
+        mail.status = OutboxMailStatus.PENDING;
+        mail.createdAt = LocalDateTime.now();
+        mail.nextAttemptAt = mail.createdAt;
+        return mail;
+    }
+
+    // 발송 시작 - 시도 횟수 +1, leaseUntil 까지 다른 발송 스레드/서버가 잡지 않게 미룸
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 발송 실패 - retryAt 에 다시 시도, 재시도 불가면 FAILED
+    public void fail(String error, LocalDateTime retryAt, boolean giveUp) {
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+        if (giveUp) {
+            this.status = OutboxMailStatus.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -10,7 +10,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum UserSignUpResponseCode implements DataResponseCode {
     SUCCESS(200, "메일 전송 성공"),
-    MAIL_SEND_FAILED(500, "메일 전송 실패");
+    MAIL_SEND_FAILED(500, "메일 전송 실패"),
+    TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final int code;
     private final String message;
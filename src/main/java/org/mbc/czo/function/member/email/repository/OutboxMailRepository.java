@@ -0,0 +1,39 @@
+package org.mbc.czo.function.member.email.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.mbc.czo.function.member.email.constant.OutboxMailStatus;
+import org.mbc.czo.function.member.email.domain.OutboxMail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, Long> {
+
+    // 발송할 메일을 잠그고 가져옴. 다른 스레드/서버가 잠근 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboxMail m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+    List<OutboxMail> findDue(@Param("status") OutboxMailStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxMail m set m.status = org.mbc.czo.function.member.email.constant.OutboxMailStatus.SENT, " +
+            "m.sentAt = :now, m.lastError = null where m.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    long countByStatus(OutboxMailStatus status);
+
+    // 오래된 발송 완료 메일 정리
+    @Modifying
+    @Query("delete from OutboxMail m where m.status = org.mbc.czo.function.member.email.constant.OutboxMailStatus.SENT " +
+            "and m.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
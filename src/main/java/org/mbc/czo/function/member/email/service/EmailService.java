@@ -1,54 +1,72 @@
 package org.mbc.czo.function.member.email.service;
 
-import jakarta.mail.Message;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.InternetAddress;
-import jakarta.mail.internet.MimeMessage;
 import lombok.extern.log4j.Log4j2;
 
 import org.mbc.czo.function.member.email.emailData.DataResponse;
 import org.mbc.czo.function.member.email.emailData.DataResponseCode;
 import org.mbc.czo.function.member.email.emailData.UserSignUpResponseCode;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.io.UnsupportedEncodingException;
-import java.util.Random;
+import java.security.SecureRandom;
 
 @Log4j2
 @Service
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
-    private final String fromEmail;
-    private String emailCode;
+    private static final String CODE_KEY = "email:auth:";          // 인증 코드 (Redis 에만 저장)
+    private static final String SEND_RECEIVER_KEY = "email:send:rcv:"; // 받는 주소별 발송 횟수
+    private static final String SEND_IP_KEY = "email:send:ip:";        // 요청 IP 별 발송 횟수
+    private static final String VERIFY_KEY = "email:verify:rcv:";      // 받는 주소별 코드 확인 횟수
+    private static final long CODE_TTL_SECONDS = 3 * 60;               // TTL 3분
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final MailOutbox mailOutbox;
     private final RedisService redisService;
+    private final int receiverLimit;
+    private final long receiverWindowMillis;
+    private final int ipLimit;
+    private final long ipWindowMillis;
+    private final int verifyLimit;
 
-    public EmailService(JavaMailSender javaMailSender,
+    public EmailService(MailOutbox mailOutbox,
                         RedisService redisService,
-                        @Value("${spring.mail.username}") String fromEmail) {
-        this.javaMailSender = javaMailSender;
-        this.fromEmail = fromEmail;
+                        @Value("${mail.verify.receiver-limit:5}") int receiverLimit,
+                        @Value("${mail.verify.receiver-window-seconds:600}") long receiverWindowSeconds,
+                        @Value("${mail.verify.ip-limit:20}") int ipLimit,
+                        @Value("${mail.verify.ip-window-seconds:3600}") long ipWindowSeconds,
+                        @Value("${mail.verify.attempt-limit:5}") int verifyLimit) {
+        this.mailOutbox = mailOutbox;
         this.redisService = redisService;
+        this.receiverLimit = receiverLimit;
+        this.receiverWindowMillis = receiverWindowSeconds * 1000;
+        this.ipLimit = ipLimit;
+        this.ipWindowMillis = ipWindowSeconds * 1000;
+        this.verifyLimit = verifyLimit;
     }
 
-    @Transactional(readOnly = false)
-    public DataResponse<DataResponseCode> sendMail(String receiver) {
+    // 인증 코드 발송 - 받는 주소/IP 별 횟수 제한 후 코드를 Redis 에 저장하고 메일은 큐에 넣고 바로 응답
+    public DataResponse<DataResponseCode> sendMail(String receiver, String clientIp) {
         log.debug("sendMail 호출됨, receiver={}", receiver);
         try {
-            log.debug("send 작동 ");
-            emailCode = createKey();
-            MimeMessage message = createMessage(receiver);
-
-            javaMailSender.send(message);
-
+            if (!redisService.tryAcquire(SEND_IP_KEY + clientIp, ipLimit, ipWindowMillis)
+                    || !redisService.tryAcquire(SEND_RECEIVER_KEY + receiver, receiverLimit, receiverWindowMillis)) {
+                log.info("인증 메일 요청 제한 - receiver={}, ip={}", receiver, clientIp);
+                return new DataResponse<>(UserSignUpResponseCode.TOO_MANY_REQUESTS);
+            }
+
+            String emailCode = createKey(); // 요청마다 지역 변수 (동시 요청끼리 코드가 섞이지 않게)
+            redisService.setValue(CODE_KEY + receiver, emailCode, CODE_TTL_SECONDS);
+            redisService.deleteValue(VERIFY_KEY + receiver); // 새 코드에는 확인 횟수를 새로 (발송 횟수 제한이 상한)
+
+            if (!mailOutbox.enqueue(receiver, "인증코드 안내", createMessage(emailCode))) {
+                return new DataResponse<>(UserSignUpResponseCode.MAIL_SEND_FAILED);
+            }
             return new DataResponse<>(UserSignUpResponseCode.SUCCESS);
-        } catch (MessagingException | UnsupportedEncodingException | MailException e) {
-            e.printStackTrace();
+        } catch (DataAccessException e) { // Redis 장애 - 코드를 저장할 수 없으니 발송하지 않음
+            log.warn("인증 메일 요청 처리 실패 - receiver={}", receiver, e);
             return new DataResponse<>(UserSignUpResponseCode.MAIL_SEND_FAILED);
         }
     }
@@ -56,25 +74,13 @@ public class EmailService {
     /**
      *  메일 내용 작성
      */
-    private MimeMessage createMessage(String receiver) throws MessagingException, UnsupportedEncodingException {
-
-        redisService.setValue("email:auth:" + receiver, emailCode, 3 * 60); // TTL 3분
-
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.addRecipients(Message.RecipientType.TO, receiver);
-        message.setSubject("인증코드 안내");
-
+    private static String createMessage(String emailCode) {
         StringBuilder mailMsg2 = new StringBuilder();
         mailMsg2.append("<div>");
         mailMsg2.append("인증코드를 확인해주세요.<br><strong style=\"font-size: 30px;\">");
         mailMsg2.append(emailCode);
         mailMsg2.append("</strong><br>이메일 인증 절차에 따라 이메일 인증코드를 발급해드립니다.<br>인증코드는 이메일 발송 시점으로부터 3분동안 유효합니다.</div>");
-
-        message.setText(mailMsg2.toString(), "utf-8", "html");
-        message.setFrom(new InternetAddress(fromEmail, "Re:LIFE 인증 메일"));
-
-        return message;
+        return mailMsg2.toString();
     }
 
     /**
@@ -83,10 +89,8 @@ public class EmailService {
     private static String createKey() {
         StringBuilder key = new StringBuilder();
 
-        Random random = new Random();
-
         for (int i = 0; i < 6; i++) {
-            int index = random.nextInt(10);
+            int index = RANDOM.nextInt(10);
             key.append(index);
         }
 
@@ -96,12 +100,18 @@ public class EmailService {
     // 인증 코드 검증
     public boolean verifyCode(String receiver, String code) {
 
-        Long ttl = redisService.getTTL("email:auth:" + receiver);
+        // 6자리 코드를 대입해 보는 요청 차단 - 코드 유효시간 동안 verifyLimit 번까지만 확인
+        if (!redisService.tryAcquire(VERIFY_KEY + receiver, verifyLimit, CODE_TTL_SECONDS * 1000)) {
+            log.info("인증 코드 확인 횟수 초과 - receiver={}", receiver);
+            return false;
+        }
+
+        Long ttl = redisService.getTTL(CODE_KEY + receiver);
         log.info("verifyCode.redisService: " + ttl);
 
-        String savedCode = redisService.getValue("email:auth:" + receiver);
+        String savedCode = redisService.getValue(CODE_KEY + receiver);
         if (savedCode != null && savedCode.equals(code)) {
-            redisService.deleteValue("email:auth:" + receiver); // 검증 성공 시 삭제
+            redisService.deleteValue(CODE_KEY + receiver); // 검증 성공 시 삭제
             return true;
         }
         return false;
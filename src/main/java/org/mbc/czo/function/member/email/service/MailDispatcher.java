@@ -0,0 +1,254 @@
+package org.mbc.czo.function.member.email.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.member.email.constant.OutboxMailStatus;
+import org.mbc.czo.function.member.email.domain.OutboxMail;
+import org.mbc.czo.function.member.email.repository.OutboxMailRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// mail_outbox 발송기
+// mailTaskExecutor 스레드(최대 mail.outbox.threads 개)가 대기 메일을 mail.outbox.batch-size 개씩 잠가서 가져오고(SKIP LOCKED),
+// JavaMailSender.send(MimeMessage...) 로 SMTP 연결 하나에 묶어서 보낸다. 보낼 게 없을 때까지 반복.
+// 실패한 메일은 mail.outbox.backoff-ms 부터 2배씩 미뤄서 mail.outbox.max-attempts 번까지 재시도한다.
+// 메트릭: mail.outbox.pending(대기 수), mail.outbox.send(배치 발송 시간), mail.outbox.sent / mail.outbox.failed
+@Log4j2
+@Component
+public class MailDispatcher {
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final JavaMailSender javaMailSender;
+    private final TaskExecutor mailTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String fromEmail;
+    private final String fromName;
+    private final int threads;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long leaseMillis;
+    private final int retentionDays;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public MailDispatcher(OutboxMailRepository outboxMailRepository,
+                          JavaMailSender javaMailSender,
+                          @Qualifier("mailTaskExecutor") TaskExecutor mailTaskExecutor,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.mail.username}") String fromEmail,
+                          @Value("${mail.outbox.from-name:Re:LIFE 인증 메일}") String fromName,
+                          @Value("${mail.outbox.threads:2}") int threads,
+                          @Value("${mail.outbox.batch-size:50}") int batchSize,
+                          @Value("${mail.outbox.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.outbox.backoff-ms:1000}") long backoffMillis,
+                          @Value("${mail.outbox.lease-ms:120000}") long leaseMillis,
+                          @Value("${mail.outbox.retention-days:7}") int retentionDays) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.javaMailSender = javaMailSender;
+        this.mailTaskExecutor = mailTaskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fromEmail = fromEmail;
+        this.fromName = fromName;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.leaseMillis = leaseMillis;
+        this.retentionDays = retentionDays;
+
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("메일 배치 SMTP 발송 소요 시간")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed")
+                .description("발송 실패 (재시도 포함)")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+    }
+
+    // 주기적으로 대기 수를 갱신하고, 재시도 시각이 된 메일이 있을 수 있으니 발송 스레드를 깨움
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            pending.set(outboxMailRepository.countByStatus(OutboxMailStatus.PENDING));
+        } catch (RuntimeException e) {
+            log.warn("mail outbox count failed: {}", e.getMessage());
+            return;
+        }
+        if (pending.get() > 0) {
+            wakeUp();
+        }
+    }
+
+    // 발송 스레드가 threads 개 미만이면 하나 더 띄움 (메일 등록 직후에도 호출)
+    public void wakeUp() {
+        while (true) {
+            int active = activeWorkers.get();
+            if (active >= threads) {
+                return;
+            }
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                break;
+            }
+        }
+        try {
+            mailTaskExecutor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            activeWorkers.decrementAndGet(); // 다음 poll 때 다시 시도
+        }
+    }
+
+    private void drain() {
+        try {
+            while (dispatchBatch() > 0) {
+                // 보낼 메일이 없을 때까지
+            }
+        } catch (RuntimeException e) {
+            log.warn("mail outbox dispatch failed: {}", e.getMessage(), e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    // 한 배치 발송. 가져온 메일 수를 반환 (0 이면 대기 메일 없음)
+    int dispatchBatch() {
+        List<OutboxMail> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<MimeMessage, OutboxMail> byMessage = new IdentityHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (OutboxMail mail : batch) {
+            try {
+                byMessage.put(createMessage(mail), mail);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+
+        if (!byMessage.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                javaMailSender.send(byMessage.keySet().toArray(new MimeMessage[0])); // SMTP 연결 하나로 배치 전송
+            } catch (MailSendException e) {
+                // 메일별 실패 목록이 있으면 그것만, 없으면(연결 실패 등) 전체 실패
+                Map<Object, Exception> failed = e.getFailedMessages();
+                if (failed.isEmpty()) {
+                    byMessage.values().forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+                } else {
+                    failed.forEach((message, ex) -> {
+                        OutboxMail mail = byMessage.get(message);
+                        if (mail != null) {
+                            failures.put(mail.getId(), ex.getMessage());
+                        }
+                    });
+                }
+            } catch (MailException e) {
+                byMessage.values().forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+            } finally {
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (OutboxMail mail : batch) {
+            if (!failures.containsKey(mail.getId())) {
+                sentIds.add(mail.getId());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> complete(sentIds, failures));
+        sentCounter.increment(sentIds.size());
+        failedCounter.increment(failures.size());
+        return batch.size();
+    }
+
+    // 대기 메일을 잠가서 가져오고 lease 만큼 미뤄 둠 -> 커밋 후 잠금이 풀려도 다른 스레드가 다시 잡지 않음
+    private List<OutboxMail> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMail> due = outboxMailRepository.findDue(OutboxMailStatus.PENDING, now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plusNanos(leaseMillis * 1_000_000);
+        due.forEach(mail -> mail.claim(leaseUntil));
+        return due;
+    }
+
+    private void complete(List<Long> sentIds, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sentIds.isEmpty()) {
+            outboxMailRepository.markSent(sentIds, now);
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (OutboxMail mail : outboxMailRepository.findAllById(failures.keySet())) {
+            boolean giveUp = mail.getAttempts() >= maxAttempts;
+            long delay = backoffMillis << Math.min(mail.getAttempts() - 1, 20); // 1, 2, 4 ... 배
+            mail.fail(failures.get(mail.getId()), now.plusNanos(delay * 1_000_000), giveUp);
+            if (giveUp) {
+                log.error("메일 발송 최종 실패 ({}회) - id={}, receiver={}: {}",
+                        mail.getAttempts(), mail.getId(), mail.getReceiver(), mail.getLastError());
+            } else {
+                log.warn("메일 발송 실패 ({}회), {}ms 후 재시도 - id={}: {}",
+                        mail.getAttempts(), delay, mail.getId(), mail.getLastError());
+            }
+        }
+    }
+
+    // 발송 완료 메일은 mail.outbox.retention-days 일 지나면 삭제
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        try {
+            int deleted = transactionTemplate.execute(status ->
+                    outboxMailRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays)));
+            log.info("mail outbox purge: {} rows", deleted);
+        } catch (RuntimeException e) {
+            log.warn("mail outbox purge failed: {}", e.getMessage());
+        }
+    }
+
+    private MimeMessage createMessage(OutboxMail mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        message.addRecipients(Message.RecipientType.TO, mail.getReceiver());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody(), "utf-8", "html");
+        message.setFrom(new InternetAddress(fromEmail, fromName));
+        return message;
+    }
+}
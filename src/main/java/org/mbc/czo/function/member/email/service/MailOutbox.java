@@ -0,0 +1,36 @@
+package org.mbc.czo.function.member.email.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.mbc.czo.function.member.email.domain.OutboxMail;
+import org.mbc.czo.function.member.email.repository.OutboxMailRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+// 메일 발송 요청 등록
+// 요청 스레드는 mail_outbox 에 한 줄 저장만 하고 바로 응답한다. 실제 SMTP 전송은 MailDispatcher 가 묶어서 한다.
+// 호출한 쪽 트랜잭션 안이면 커밋 후에 발송 스레드를 깨운다 (롤백되면 메일도 안 나감).
+@Log4j2
+@Component
+public class MailOutbox {
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final MailDispatcher mailDispatcher;
+
+    public MailOutbox(OutboxMailRepository outboxMailRepository, MailDispatcher mailDispatcher) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.mailDispatcher = mailDispatcher;
+    }
+
+    // 발송 요청 저장. 저장 실패(DB 장애)면 false
+    public boolean enqueue(String receiver, String subject, String html) {
+        try {
+            outboxMailRepository.save(OutboxMail.of(receiver, subject, html));
+        } catch (DataAccessException e) {
+            log.warn("메일 발송 요청 저장 실패 - receiver={}", receiver, e);
+            return false;
+        }
+        TxCallbacks.afterCommit(mailDispatcher::wakeUp);
+        return true;
+    }
+}
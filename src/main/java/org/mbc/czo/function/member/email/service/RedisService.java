@@ -1,12 +1,25 @@
 package org.mbc.czo.function.member.email.service;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
 public class RedisService {
 
+    // 슬라이딩 윈도우 요청 제한 (ZSET 에 요청 시각을 score 로 기록)
+    // 윈도우 밖 기록 삭제 -> 개수 확인 -> 추가 를 한 스크립트로 실행해서 동시 요청이 와도 limit 을 넘지 않음
+    private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2])) " +
+            "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public RedisService(StringRedisTemplate redisTemplate) {
@@ -28,4 +41,12 @@ public class RedisService {
     public Long getTTL(String key) {
         return redisTemplate.getExpire(key, TimeUnit.SECONDS);
     }
+
+    // 최근 windowMillis 동안 key 로 들어온 요청이 limit 개 미만이면 기록하고 true, 아니면 false
+    public boolean tryAcquire(String key, int limit, long windowMillis) {
+        Long allowed = redisTemplate.execute(SLIDING_WINDOW, List.of(key),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(windowMillis),
+                String.valueOf(limit), UUID.randomUUID().toString());
+        return allowed != null && allowed == 1L;
+    }
 }
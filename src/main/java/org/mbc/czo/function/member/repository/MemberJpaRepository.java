@@ -27,5 +27,9 @@ public interface MemberJpaRepository extends JpaRepository<Member, String> {
     Optional<Member> findByMemail(String memail);
     // 이메일을 받아서 회원 정보를 가져옴.
 
+    // 롤까지 한 번에 (소셜 회원 포함 - MemberCache 에서 사용)
+    @EntityGraph(attributePaths = "mroleSet")
+    Optional<Member> findWithRolesByMid(String mid);
+
     void deleteByMid(String mid);
 }
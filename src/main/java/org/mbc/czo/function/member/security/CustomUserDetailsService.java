@@ -2,9 +2,9 @@ package org.mbc.czo.function.member.security;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.mbc.czo.function.member.domain.Member;
-import org.mbc.czo.function.member.repository.MemberJpaRepository;
+import org.mbc.czo.function.member.dto.CachedMemberDTO;
 import org.mbc.czo.function.member.security.dto.MemberSecurityDTO;
+import org.mbc.czo.function.member.service.MemberCache;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -23,7 +23,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     // 패스워드를 암호화처리하도록 CustomSecurityConfig 구현
 
-    private final MemberJpaRepository memberJpaRepository;
+    private final MemberCache memberCache;
  /*   private PasswordEncoder passwordEncoder;
 
 
@@ -40,15 +40,16 @@ public class CustomUserDetailsService implements UserDetailsService {
         log.info("CustomUserDetailsService.loadUserByUsername메서드 호출 됨....");
         log.info("loadUserByUsername.로그온 사용자의 id :" + username);
 
-        Optional<Member> result = memberJpaRepository.getWithRoles(username);
-        // username이 들어가면 role까지 나옴
+        // role 까지 포함된 회원 정보를 항상 DB 에서 조회 (다른 서버에서 바뀐 비밀번호/권한/탈퇴도 바로 반영), 소셜 가입 회원은 폼 로그인 불가
+        Optional<CachedMemberDTO> result = memberCache.reloadByMid(username)
+                .filter(member -> !member.misSocialActivate());
 
         if(result.isEmpty()){
             // 해당하는 정보가 db에 없으면
             throw new UsernameNotFoundException("username을 찾을 수 없습니다.");
         }
 
-        Member member = result.get(); // 해당하는 member가 있으면 넣음
+        CachedMemberDTO member = result.get(); // 해당하는 member가 있으면 넣음
 
         MemberSecurityDTO memberSecurityDTO =  createMemberSecurityDTO(member, false);
 
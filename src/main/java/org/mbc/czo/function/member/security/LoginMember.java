@@ -0,0 +1,14 @@
+package org.mbc.czo.function.member.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 로그인한 회원의 Member 참조를 넣어 줌 (LoginMemberArgumentResolver)
+// 로그인하지 않았거나 회원이 없으면 null
+// ex) public String showCart(@LoginMember Member member, ...)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMember {
+}
@@ -0,0 +1,46 @@
+package org.mbc.czo.function.member.security;
+
+import lombok.RequiredArgsConstructor;
+import org.mbc.czo.function.member.domain.Member;
+import org.mbc.czo.function.member.security.dto.MemberSecurityDTO;
+import org.mbc.czo.function.member.service.MemberCache;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @LoginMember Member 파라미터 처리
+// 세션의 인증 정보(MemberSecurityDTO)의 mid 로 MemberCache 를 확인하고 (탈퇴한 회원이면 null),
+// DB 조회 없이 Member 프록시를 넘긴다. 주문/장바구니의 연관관계 지정에는 id 만 있으면 충분하다.
+@Component
+@RequiredArgsConstructor
+public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final MemberCache memberCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMember.class)
+                && Member.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        // 폼/소셜 로그인 모두 principal 은 MemberSecurityDTO (mid), 그 외에는 이름을 mid 로 본다
+        String mid = authentication.getPrincipal() instanceof MemberSecurityDTO dto ? dto.getMid() : authentication.getName();
+        return memberCache.findByMid(mid)
+                .map(memberCache::getReference)
+                .orElse(null);
+    }
+}
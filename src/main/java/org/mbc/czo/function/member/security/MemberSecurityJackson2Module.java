@@ -0,0 +1,120 @@
+package org.mbc.czo.function.member.security;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.mbc.czo.function.member.security.dto.MemberSecurityDTO;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 세션(Redis)에 저장되는 로그인 정보(MemberSecurityDTO)의 JSON 변환
+// 화면/컨트롤러에서 쓰는 회원 정보와 권한만 저장한다.
+// 비밀번호(password/mpassword)와 소셜 로그인 원본 정보(mSocialprops)는 로그인 요청 안에서만 쓰므로 저장하지 않음.
+// SecurityJackson2Modules 와 같이 등록해야 한다 (기본 타입 정보 @class 사용).
+public class MemberSecurityJackson2Module extends SimpleModule {
+
+    public MemberSecurityJackson2Module() {
+        super(MemberSecurityJackson2Module.class.getName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.setMixInAnnotations(MemberSecurityDTO.class, MemberSecurityDTOMixin.class);
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    @JsonSerialize(using = MemberSecurityDTOSerializer.class)
+    @JsonDeserialize(using = MemberSecurityDTODeserializer.class)
+    abstract static class MemberSecurityDTOMixin {
+    }
+
+    static class MemberSecurityDTOSerializer extends JsonSerializer<MemberSecurityDTO> {
+
+        @Override
+        public void serialize(MemberSecurityDTO value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            writeFields(value, gen);
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(MemberSecurityDTO value, JsonGenerator gen, SerializerProvider serializers,
+                                      TypeSerializer typeSer) throws IOException {
+            WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+            writeFields(value, gen);
+            typeSer.writeTypeSuffix(gen, typeId);
+        }
+
+        private void writeFields(MemberSecurityDTO value, JsonGenerator gen) throws IOException {
+            gen.writeStringField("mid", value.getMid());
+            gen.writeStringField("memail", value.getMemail());
+            gen.writeStringField("mname", value.getMname());
+            gen.writeStringField("mphoneNumber", value.getMphoneNumber());
+            gen.writeStringField("mpostcode", value.getMpostcode());
+            gen.writeStringField("maddress", value.getMaddress());
+            gen.writeStringField("mdetailAddress", value.getMdetailAddress());
+            if (value.getMmileage() != null) {
+                gen.writeNumberField("mmileage", value.getMmileage());
+            }
+            gen.writeBooleanField("misActivate", value.isMisActivate());
+            gen.writeBooleanField("misSocialActivate", value.isMisSocialActivate());
+            gen.writeStringField("profileImagePath", value.getProfileImagePath());
+            gen.writeArrayFieldStart("authorities");
+            for (GrantedAuthority authority : value.getAuthorities()) {
+                gen.writeString(authority.getAuthority());
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static class MemberSecurityDTODeserializer extends JsonDeserializer<MemberSecurityDTO> {
+
+        @Override
+        public MemberSecurityDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonNode node = p.getCodec().readTree(p);
+            List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+            for (JsonNode authority : node.path("authorities")) {
+                authorities.add(new SimpleGrantedAuthority(authority.asText()));
+            }
+            MemberSecurityDTO dto = new MemberSecurityDTO(
+                    text(node, "mid"),
+                    "", // 비밀번호는 저장하지 않음 (아래에서 지움)
+                    text(node, "memail"),
+                    node.path("misActivate").asBoolean(),
+                    node.path("misSocialActivate").asBoolean(),
+                    text(node, "mname"),
+                    text(node, "mphoneNumber"),
+                    text(node, "mpostcode"),
+                    text(node, "maddress"),
+                    text(node, "mdetailAddress"),
+                    node.hasNonNull("mmileage") ? node.get("mmileage").asLong() : null,
+                    authorities);
+            dto.eraseCredentials();
+            dto.setMpassword(null);
+            dto.setProfileImagePath(text(node, "profileImagePath"));
+            dto.setMSocialprops(Map.of());
+            return dto;
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.mbc.czo.function.member.security;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 자동 로그인(remember-me) 토큰 저장소 - persistent_logins 테이블 대신 Redis
+// rememberme:series:{series} = hash(username, token, lastUsed), rememberme:user:{username} = 그 회원의 series 목록
+// 두 키 모두 토큰 유효기간(tokenValiditySeconds)만큼 TTL -> 만료된 토큰을 지우는 배치가 필요 없음
+// 토큰 생성/갱신은 파이프라인으로 한 번에 보내고, 같은 series 를 nearCacheMillis 안에 다시 조회하면 서버 메모리에서 돌려준다.
+// near cache 는 기본 꺼짐(security.remember-me.near-cache-ms=0) - 서버가 여러 대이고 sticky session 이 아니면 다른 서버가 바꾼 토큰을 못 보므로
+// 서버 한 대 또는 sticky session 일 때만 켤 것
+@Log4j2
+public class RedisPersistentTokenRepository implements PersistentTokenRepository {
+
+    private static final String SERIES = "rememberme:series:";
+    private static final String USER = "rememberme:user:";
+    private static final int NEAR_CACHE_MAX = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final long nearCacheMillis;
+    private final Map<String, Entry> nearCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > NEAR_CACHE_MAX;
+        }
+    };
+
+    public RedisPersistentTokenRepository(StringRedisTemplate redisTemplate, int tokenValiditySeconds, long nearCacheMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(tokenValiditySeconds);
+        this.nearCacheMillis = nearCacheMillis;
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        String seriesKey = SERIES + token.getSeries();
+        String userKey = USER + token.getUsername();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> ops = operations;
+                ops.opsForHash().putAll(seriesKey, Map.of(
+                        "username", token.getUsername(),
+                        "token", token.getTokenValue(),
+                        "lastUsed", String.valueOf(token.getDate().getTime())));
+                ops.expire(seriesKey, ttl);
+                ops.opsForSet().add(userKey, token.getSeries());
+                ops.expire(userKey, ttl);
+                return null;
+            }
+        });
+        putNear(token);
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        String seriesKey = SERIES + series;
+        // 회원별 series 목록도 같이 연장해야 로그아웃(removeUserTokens) 때 이 토큰을 찾을 수 있음
+        Entry cached = getNear(series);
+        String username = cached != null
+                ? cached.token.getUsername()
+                : redisTemplate.<String, String>opsForHash().get(seriesKey, "username");
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> ops = operations;
+                ops.opsForHash().putAll(seriesKey, Map.of(
+                        "token", tokenValue,
+                        "lastUsed", String.valueOf(lastUsed.getTime())));
+                ops.expire(seriesKey, ttl); // 사용할 때마다 유효기간 연장 (JDBC 와 같이 last_used 기준)
+                if (username != null) {
+                    ops.expire(USER + username, ttl);
+                }
+                return null;
+            }
+        });
+        // 같은 서버의 다음 조회가 옛 토큰을 보면 쿠키 도용으로 판단하므로 near cache 도 새 토큰으로 교체
+        if (cached != null) {
+            putNear(new PersistentRememberMeToken(username, series, tokenValue, lastUsed));
+        }
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        Entry cached = getNear(seriesId);
+        if (cached != null) {
+            return cached.token;
+        }
+        try {
+            List<String> values = redisTemplate.<String, String>opsForHash()
+                    .multiGet(SERIES + seriesId, List.of("username", "token", "lastUsed"));
+            if (values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+            long lastUsed = values.get(2) == null ? 0L : Long.parseLong(values.get(2));
+            PersistentRememberMeToken token = new PersistentRememberMeToken(
+                    values.get(0), seriesId, values.get(1), new Date(lastUsed));
+            putNear(token);
+            return token;
+        } catch (DataAccessException e) {
+            // JdbcTokenRepositoryImpl 과 같이 조회 실패는 토큰 없음으로 처리 (로그인 페이지로)
+            log.error("remember-me 토큰 조회 실패 - series={}", seriesId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        String userKey = USER + username;
+        Set<String> seriesIds = redisTemplate.opsForSet().members(userKey);
+        if (seriesIds != null && !seriesIds.isEmpty()) {
+            redisTemplate.delete(seriesIds.stream().map(series -> SERIES + series).toList());
+            synchronized (nearCache) {
+                seriesIds.forEach(nearCache::remove);
+            }
+        }
+        redisTemplate.delete(userKey);
+    }
+
+    private Entry getNear(String series) {
+        if (nearCacheMillis <= 0) {
+            return null;
+        }
+        synchronized (nearCache) {
+            Entry entry = nearCache.get(series);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt < System.currentTimeMillis()) {
+                nearCache.remove(series);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void putNear(PersistentRememberMeToken token) {
+        if (nearCacheMillis <= 0) {
+            return;
+        }
+        synchronized (nearCache) {
+            nearCache.put(token.getSeries(), new Entry(token, System.currentTimeMillis() + nearCacheMillis));
+        }
+    }
+
+    private record Entry(PersistentRememberMeToken token, long expireAt) {
+    }
+}
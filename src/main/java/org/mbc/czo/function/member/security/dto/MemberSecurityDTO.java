@@ -7,6 +7,7 @@ import lombok.ToString;
 import org.mbc.czo.function.image.domain.MemberProfileImage;
 import org.mbc.czo.function.member.constant.Role;
 import org.mbc.czo.function.member.domain.Member;
+import org.mbc.czo.function.member.dto.CachedMemberDTO;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -96,6 +97,27 @@ public class MemberSecurityDTO extends User implements OAuth2User {
         return dto;
     }
 
+    // MemberCache 에 저장된 회원 정보로 생성 (로그인할 때마다 새 객체 - 인증 후 비밀번호를 지워도 캐시는 그대로)
+    public static MemberSecurityDTO createMemberSecurityDTO(CachedMemberDTO member, boolean misSocialActivate) {
+        MemberSecurityDTO dto = new MemberSecurityDTO(
+                member.mid(),
+                member.mpassword(),
+                member.memail(),
+                member.misActivate(),
+                misSocialActivate,
+                member.mname(),
+                member.mphoneNumber(),
+                member.mpostcode(),
+                member.maddress(),
+                member.mdetailAddress(),
+                member.mmileage(),
+                member.roles().stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                        .collect(Collectors.toList()));
+        dto.setProfileImagePath(member.profileImagePath());
+        return dto;
+    }
+
     @Override
     public Map<String, Object> getAttributes() {
         return this.getMSocialprops();
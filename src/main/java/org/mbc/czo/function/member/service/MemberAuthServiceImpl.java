@@ -28,6 +28,7 @@ public class MemberAuthServiceImpl implements MemberAuthService {
     private final ModelMapper modelMapper;  // 엔티티를 dto변환
     private final MemberJpaRepository memberJpaRepository;  // member db 처리용
     private final PasswordEncoder passwordEncoder;    // 패스워드 암호화
+    private final MemberCache memberCache;  // 로그인/주문 시 쓰는 회원 캐시 (변경 시 비움)
 
     public void join(MemberJoinDTO memberJoinDTO) throws M_AuthException {
 
@@ -84,6 +85,7 @@ public class MemberAuthServiceImpl implements MemberAuthService {
         member.setMpassword(passwordEncoder.encode(m_pw));
 
         memberJpaRepository.save(member);
+        memberCache.evict(changePWAccountID);
 
 
     }
@@ -106,6 +108,7 @@ public class MemberAuthServiceImpl implements MemberAuthService {
         member.addRole(Role.USER);*/
 
         memberJpaRepository.save(member);
+        memberCache.evict(username);
 
         // SecurityContext 갱신
         refreshAuthentication(member);
@@ -116,7 +119,7 @@ public class MemberAuthServiceImpl implements MemberAuthService {
 
         Authentication newAuth = new UsernamePasswordAuthenticationToken(
                 updatedDTO,
-                updatedDTO.getPassword(),
+                null, // 세션(Redis)에 비밀번호 해시를 남기지 않음
                 updatedDTO.getAuthorities()
         );
         //modify 이후 변경된 값을 SecurityContext에 저장 → 현재 로그인 상태의 인증 정보 갱신
@@ -149,6 +152,7 @@ public class MemberAuthServiceImpl implements MemberAuthService {
         }
         log.info("deleteByMid실행: " + username);
         memberJpaRepository.deleteByMid(username);
+        memberCache.evict(username);
     }
 
 }
@@ -0,0 +1,175 @@
+package org.mbc.czo.function.member.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.mbc.czo.function.member.domain.Member;
+import org.mbc.czo.function.member.dto.CachedMemberDTO;
+import org.mbc.czo.function.member.repository.MemberJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 회원 정보 캐시 (서버 메모리 LRU, mid / email 둘 다로 조회)
+// 항목은 mid 로 한 칸만 두고 email -> mid 색인으로 찾는다 -> mid 항목을 지우면 email 로도 옛 값이 안 보임
+// 로그인 사용자 정보를 장바구니/주문 요청마다 findByMemail 로 다시 읽지 않도록 한다.
+// 회원 정보 수정/비밀번호 변경/탈퇴/프로필 이미지 변경 시 evict (커밋 후 한 번 더), 그 외에는 member.cache.ttl-seconds 후 다시 읽음.
+// evict 는 이 서버의 캐시만 지우므로 로그인 인증(비밀번호/권한/활성 여부)은 reloadByMid 로 항상 DB 를 읽는다.
+// 없는 회원은 캐시하지 않는다 (가입 직후 바로 보이도록).
+@Log4j2
+@Component
+public class MemberCache {
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMillis;
+    private final Map<String, Entry> local;                       // mid -> 회원
+    private final Map<String, String> midByEmail = new HashMap<>(); // email -> mid (local 과 같이 synchronized (local))
+
+    public MemberCache(MemberJpaRepository memberJpaRepository,
+                       EntityManager em,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${member.cache.max-entries:10000}") int maxEntries,
+                       @Value("${member.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                unindex(eldest.getValue().value);
+                return true;
+            }
+        };
+    }
+
+    public Optional<CachedMemberDTO> findByMid(String mid) {
+        if (mid == null) {
+            return Optional.empty();
+        }
+        CachedMemberDTO cached = get(mid);
+        if (cached == null) {
+            cached = load(() -> memberJpaRepository.findWithRolesByMid(mid));
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    // 캐시를 건너뛰고 항상 DB 에서 읽음 (읽은 값으로 이 서버의 캐시도 갱신)
+    // 로그인 인증용 - 캐시는 서버마다 따로라서 다른 서버에서 바꾼 비밀번호/권한/탈퇴가 TTL 동안 안 보일 수 있음
+    public Optional<CachedMemberDTO> reloadByMid(String mid) {
+        if (mid == null) {
+            return Optional.empty();
+        }
+        CachedMemberDTO loaded = load(() -> memberJpaRepository.findWithRolesByMid(mid));
+        if (loaded == null) {
+            evictNow(mid); // 탈퇴한 회원이면 남아 있던 캐시도 지움
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    public Optional<CachedMemberDTO> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        CachedMemberDTO cached;
+        synchronized (local) {
+            String mid = midByEmail.get(email);
+            cached = mid == null ? null : get(mid);
+        }
+        if (cached == null || !email.equals(cached.memail())) {
+            cached = load(() -> memberJpaRepository.findByMemail(email));
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    // 연관관계(FK) 지정용 Member 참조 - SELECT 없이 프록시만 만든다 (필드를 읽으면 그때 조회)
+    public Member getReference(CachedMemberDTO member) {
+        return em.getReference(Member.class, member.mid());
+    }
+
+    // 이메일로 Member 참조. 없는 회원이면 EntityNotFoundException
+    public Member getReferenceByEmail(String email) {
+        return findByEmail(email)
+                .map(this::getReference)
+                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않습니다: " + email));
+    }
+
+    // 회원 정보가 바뀌었을 때 - 트랜잭션 안이면 지금 한 번 + 커밋 후 한 번 더 (커밋 전에 옛 값이 다시 채워지는 경우 방지)
+    public void evict(String mid) {
+        if (mid == null) {
+            return;
+        }
+        evictNow(mid);
+        TxCallbacks.afterCommit(() -> evictNow(mid));
+    }
+
+    private void evictNow(String mid) {
+        synchronized (local) {
+            Entry entry = local.remove(mid);
+            if (entry != null) {
+                unindex(entry.value);
+            }
+        }
+    }
+
+    private CachedMemberDTO load(Supplier<Optional<Member>> loader) {
+        // profileImage/mroleSet 을 읽어야 하므로 짧은 읽기 전용 트랜잭션 안에서 변환
+        CachedMemberDTO loaded = transactionTemplate.execute(status -> loader.get().map(CachedMemberDTO::from).orElse(null));
+        if (loaded != null) {
+            put(loaded);
+        }
+        return loaded;
+    }
+
+    private CachedMemberDTO get(String mid) {
+        synchronized (local) {
+            Entry entry = local.get(mid);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt < System.currentTimeMillis()) {
+                local.remove(mid);
+                unindex(entry.value);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void put(CachedMemberDTO member) {
+        Entry entry = new Entry(member, System.currentTimeMillis() + ttlMillis);
+        synchronized (local) {
+            Entry previous = local.put(member.mid(), entry);
+            if (previous != null) {
+                unindex(previous.value); // 이메일이 바뀐 경우 옛 이메일 색인 제거
+            }
+            if (member.memail() != null) {
+                midByEmail.put(member.memail(), member.mid());
+            }
+        }
+    }
+
+    // 이 회원을 가리키는 email 색인만 제거 (같은 이메일이 이미 다른 회원 것이면 그대로)
+    private void unindex(CachedMemberDTO member) {
+        if (member.memail() != null) {
+            midByEmail.remove(member.memail(), member.mid());
+        }
+    }
+
+    private record Entry(CachedMemberDTO value, long expireAt) {
+    }
+}
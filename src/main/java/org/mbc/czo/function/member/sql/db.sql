@@ -78,4 +78,29 @@ CREATE TABLE member_mrole_set (
 
 SELECT * FROM member_role;
 
-DESC member_role;
\ No newline at end of file
+DESC member_role;
+
+-- 공지사항 좋아요 중복 방지 유니크 키 (BoardLike) - 기존 중복 행 정리 후 추가
+DELETE bl1 FROM board_like bl1
+    JOIN board_like bl2 ON bl1.board_id = bl2.board_id AND bl1.username = bl2.username AND bl1.id > bl2.id;
+
+ALTER TABLE board_like ADD CONSTRAINT uk_board_like_board_user UNIQUE (board_id, username);
+
+UPDATE board_admin b SET b.like_count = (SELECT COUNT(*) FROM board_like bl WHERE bl.board_id = b.bno);
+
+-- 조회수 컬럼 (ViewCountBuffer 가 update ... set view_count = view_count + ? 로만 변경) - NULL 이 있으면 0 으로
+UPDATE board_admin SET view_count = 0 WHERE view_count IS NULL;
+ALTER TABLE board_admin MODIFY view_count INT NOT NULL DEFAULT 0;
+ALTER TABLE board ADD COLUMN IF NOT EXISTS view_count INT NOT NULL DEFAULT 0;
+
+-- 공지사항 목록 (공지 먼저, 번호 내림차순) 인덱스 - BoardAdmin @Table(indexes)
+CREATE INDEX idx_board_admin_notice_bno ON board_admin (notice, bno);
+
+-- 이미지 id 를 IDENTITY -> 시퀀스(base_image_seq, 50개씩 할당)로 변경 (BaseImage) - 배포 전에 실행
+-- ddl-auto 가 1부터 시작하는 시퀀스를 만들면 기존 id 와 겹치므로, 두 이미지 테이블의 최대 id + 51 부터 시작하게 만든다
+SET @base_image_next = (SELECT GREATEST(COALESCE((SELECT MAX(id) FROM board_admin_images), 0),
+                                        COALESCE((SELECT MAX(id) FROM member_profile_image), 0)) + 51);
+SET @base_image_sql = CONCAT('CREATE OR REPLACE SEQUENCE base_image_seq START WITH ', @base_image_next, ' INCREMENT BY 50');
+PREPARE base_image_stmt FROM @base_image_sql;
+EXECUTE base_image_stmt;
+DEALLOCATE PREPARE base_image_stmt;
@@ -1,8 +1,49 @@
 package org.mbc.czo.function.product.constant;
 
+import org.springframework.data.domain.Sort;
+
 public enum ItemSortType {
     PRICE_ASC,     // 가격 낮은 순
     PRICE_DESC,    // 가격 높은 순
-    NEW            // 최신 순
+    NEW,           // 최신 순
+    LIKES_DESC,    // 좋아요 많은 순
+    VIEWS_ASC,     // 조회수 낮은 순
+    VIEWS_DESC;    // 조회수 높은 순
+
+    // ItemSearchDto.sortBy 문자열(priceAsc, likesDesc ...)을 정렬 타입으로 변환. 모르는 값이면 최신순
+    public static ItemSortType from(String sortBy) {
+        if (sortBy == null) {
+            return NEW;
+        }
+        switch (sortBy) {
+            case "priceAsc":  return PRICE_ASC;
+            case "priceDesc": return PRICE_DESC;
+            case "likesDesc": return LIKES_DESC;
+            case "viewsAsc":  return VIEWS_ASC;
+            case "viewsDesc": return VIEWS_DESC;
+            default:          return NEW;
+        }
+    }
+
+    // 정렬 기준 컬럼 (최신순은 id 자체가 기준)
+    public String getProperty() {
+        switch (this) {
+            case PRICE_ASC:
+            case PRICE_DESC: return "price";
+            case LIKES_DESC: return "likes";
+            case VIEWS_ASC:
+            case VIEWS_DESC: return "views";
+            default:         return "id";
+        }
+    }
+
+    public boolean isAscending() {
+        return this == PRICE_ASC || this == VIEWS_ASC;
+    }
 
+    // 오프셋 페이징(/products)에서 쓰는 Sort
+    public Sort toSort() {
+        Sort sort = Sort.by(getProperty());
+        return isAscending() ? sort.ascending() : sort.descending();
+    }
 }
@@ -163,11 +163,14 @@ package org.mbc.czo.function.product.controller;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.mbc.czo.function.product.constant.ItemSortType;
 import org.mbc.czo.function.product.domain.Item;
 import org.mbc.czo.function.product.dto.ItemFormDto;
 import org.mbc.czo.function.product.dto.ItemSearchDto;
 import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.dto.MainItemSliceDto;
 import org.mbc.czo.function.product.repository.ItemRepository;
+import org.mbc.czo.function.product.service.ItemHotList;
 import org.mbc.czo.function.product.service.ItemService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -190,6 +193,7 @@ public class ItemController {
     // 관리자 상품 컨트롤러 !!!!!!!!
     private final ItemService itemService;
     private final ItemRepository itemRepository;
+    private final ItemHotList itemHotList; // /products 첫 페이지 캐시
 
     // 상품 등록 관련
     @GetMapping(value = "/admin/item/new")
@@ -279,29 +283,14 @@ public class ItemController {
         }
 
         // 정렬 옵션이 없으면 최신순(id 내림차순)으로 기본 정렬
-        Sort sort = Sort.by("id").descending();
-
-        String sortBy = itemSearchDto.getSortBy();
-        if ("priceAsc".equals(sortBy)) {
-            sort = Sort.by("price").ascending();    // 낮은 가격순
-        } else if ("priceDesc".equals(sortBy)) {
-            sort = Sort.by("price").descending();   // 높은 가격순
-        } else if ("likesDesc".equals(sortBy)) {
-            // [추가된 기능] 좋아요 많은순
-            // 참고: 'Item' 엔티티에 'likes' 필드가 있어야 합니다.
-            sort = Sort.by("likes").descending();
-        } else if ("viewsAsc".equals(sortBy)) {
-            // [추가된 기능] 조회수 낮은순
-            // 참고: 'Item' 엔티티에 'views' 필드가 있어야 합니다.
-            sort = Sort.by("views").ascending();
-        } else if ("viewsDesc".equals(sortBy)) {
-            // [추가된 기능] 조회수 높은순
-            // 참고: 'Item' 엔티티에 'views' 필드가 있어야 합니다.
-            sort = Sort.by("views").descending();
-        }
+        // priceAsc/priceDesc/likesDesc/viewsAsc/viewsDesc -> ItemSortType 참고
+        Sort sort = ItemSortType.from(itemSearchDto.getSortBy()).toSort();
 
-        Pageable pageable = PageRequest.of(page.orElse(0), 6, sort);
-        Page<MainItemDto> items = itemService.getMainItemPage(itemSearchDto, pageable);
+        Pageable pageable = PageRequest.of(page.orElse(0), ItemHotList.PAGE_SIZE, sort);
+        Page<MainItemDto> items = itemHotList.firstPage(itemSearchDto, pageable); // 검색어 없는 첫 페이지는 캐시
+        if (items == null) {
+            items = itemService.getMainItemPage(itemSearchDto, pageable);
+        }
 
         model.addAttribute("itemSearchDto", itemSearchDto);
         model.addAttribute("items", items);
@@ -310,6 +299,17 @@ public class ItemController {
         return "product/itemList";
     }
 
+    // 상품 목록 커서 페이징 (무한 스크롤용 JSON)
+    // 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 넘기면 된다. 깊은 페이지도 COUNT/OFFSET 없이 조회
+    @GetMapping("/products/seek")
+    @ResponseBody
+    public MainItemSliceDto itemSlice(ItemSearchDto itemSearchDto,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "6") int size) {
+        size = Math.max(1, Math.min(size, 60)); // 과도한 요청 방지
+        return itemService.getMainItemSlice(itemSearchDto, cursor, size);
+    }
+
 
 
     // 상품 수정 관련
@@ -3,13 +3,19 @@ package org.mbc.czo.function.product.domain;
 import jakarta.persistence.*;
 import jakarta.persistence.Table;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.mbc.czo.function.common.entity.BaseEntity;
 import org.mbc.czo.function.product.constant.ItemSellStatus;
 import org.mbc.czo.function.product.dto.ItemFormDto;
 import org.mbc.czo.function.product.exception.OutOfStockException;
 
 @Entity
-@Table(name="item")
+@DynamicUpdate // 상품 수정 시 변경된 컬럼만 UPDATE -> 버퍼에서 반영한 views/likes를 이전 값으로 덮어쓰지 않음
+@Table(name="item", indexes = { // 상품 목록 커서(키셋) 페이징용 (정렬값, item_id) 인덱스
+        @Index(name = "idx_item_price_id", columnList = "price, item_id"),
+        @Index(name = "idx_item_likes_id", columnList = "likes, item_id"),
+        @Index(name = "idx_item_views_id", columnList = "views, item_id")
+})
 @Getter
 @Setter
 @ToString
@@ -21,6 +21,12 @@ public class ItemImg extends BaseEntity {
 
     private String imgUrl; //이미지 조회 경로
 
+    private String thumbUrl; //목록용 썸네일 조회 경로 (백그라운드에서 생성, 생성 전이면 null)
+
+    private String detailUrl; //상세용 이미지 조회 경로
+
+    private String zoomUrl; //확대용 이미지 조회 경로
+
     private String repimgYn; //대표 이미지 여부
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,6 +37,13 @@ public class ItemImg extends BaseEntity {
         this.oriImgName = oriImgName;
         this.imgName = imgName;
         this.imgUrl = imgUrl;
+        updateVariants(null, null, null); // 이미지가 바뀌면 축소본은 다시 생성될 때까지 원본 사용
+    }
+
+    public void updateVariants(String thumbUrl, String detailUrl, String zoomUrl){
+        this.thumbUrl = thumbUrl;
+        this.detailUrl = detailUrl;
+        this.zoomUrl = zoomUrl;
     }
 
 }
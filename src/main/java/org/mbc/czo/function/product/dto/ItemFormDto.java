@@ -8,7 +8,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.mbc.czo.function.product.constant.ItemSellStatus;
 import org.mbc.czo.function.product.domain.Item;
-import org.modelmapper.ModelMapper;
+import org.mbc.czo.function.product.mapper.ItemMapper;
 
 
 import java.util.ArrayList;
@@ -43,14 +43,12 @@ public class ItemFormDto {
 
     private List<Long> itemImgIds = new ArrayList<>();
 
-    private static ModelMapper modelMapper = new ModelMapper();
-
     public Item createItem(){
-        return modelMapper.map(this, Item.class);
+        return ItemMapper.INSTANCE.toEntity(this);
     }
 
     public static ItemFormDto of(Item item){
-        return modelMapper.map(item,ItemFormDto.class);
+        return ItemMapper.INSTANCE.toFormDto(item);
     }
 
 }
\ No newline at end of file
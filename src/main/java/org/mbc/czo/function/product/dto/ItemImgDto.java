@@ -4,7 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.mbc.czo.function.product.domain.ItemImg;
-import org.modelmapper.ModelMapper;
+import org.mbc.czo.function.product.mapper.ItemMapper;
 
 @Getter @Setter @ToString
 public class ItemImgDto {
@@ -19,10 +19,14 @@ public class ItemImgDto {
 
     private String repImgYn;
 
-    private static ModelMapper modelMapper = new ModelMapper();
+    private String thumbUrl;
+
+    private String detailUrl;
+
+    private String zoomUrl;
 
     public static ItemImgDto of(ItemImg itemImg) {
-        return modelMapper.map(itemImg,ItemImgDto.class);
+        return ItemMapper.INSTANCE.toImgDto(itemImg);
     }
 
 }
@@ -0,0 +1,20 @@
+package org.mbc.czo.function.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+// 커서 기반(무한 스크롤) 상품 목록 응답. 전체 개수(COUNT)는 구하지 않고 다음 페이지 존재 여부만 알려준다.
+@ToString
+@Getter
+@AllArgsConstructor
+public class MainItemSliceDto {
+
+    private List<MainItemDto> content;
+
+    private String nextCursor; // 다음 페이지 요청 시 그대로 넘겨줄 토큰 (마지막 페이지면 null)
+
+    private boolean hasNext;
+}
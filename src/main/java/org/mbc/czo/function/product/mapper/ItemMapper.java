@@ -0,0 +1,27 @@
+package org.mbc.czo.function.product.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+import org.mbc.czo.function.product.domain.Item;
+import org.mbc.czo.function.product.domain.ItemImg;
+import org.mbc.czo.function.product.dto.ItemFormDto;
+import org.mbc.czo.function.product.dto.ItemImgDto;
+
+// Item/ItemImg <-> ItemFormDto/ItemImgDto 변환
+// ItemFormDto.of(), ItemImgDto.of() 같은 static 메소드에서 쓰기 위해 INSTANCE로 사용
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ItemMapper {
+
+    ItemMapper INSTANCE = Mappers.getMapper(ItemMapper.class);
+
+    @Mapping(target = "itemImgDtoList", ignore = true) // 이미지는 서비스에서 따로 조회해서 채움
+    @Mapping(target = "itemImgIds", ignore = true)
+    ItemFormDto toFormDto(Item item);
+
+    Item toEntity(ItemFormDto itemFormDto);
+
+    @Mapping(target = "repImgYn", source = "repimgYn") // dto와 엔티티 필드명 대소문자가 다름
+    ItemImgDto toImgDto(ItemImg itemImg);
+}
@@ -0,0 +1,35 @@
+package org.mbc.czo.function.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 조회수/좋아요 증가분을 item 테이블에 일괄 반영 (JPA 엔티티를 거치지 않고 JDBC batch update)
+@Repository
+@RequiredArgsConstructor
+public class ItemCounterRepository {
+
+    private static final String ADD_COUNTERS_SQL =
+            "update item set views = views + ?, likes = likes + ? where item_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // key: item_id, value: {views 증가분, likes 증가분}
+    public int addCounters(Map<Long, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        // item_id 순서로 정렬해서 여러 서버가 동시에 flush 해도 행 잠금 순서가 같도록 함 (데드락 방지)
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, long[]> entry : new TreeMap<>(deltas).entrySet()) {
+            args.add(new Object[]{entry.getValue()[0], entry.getValue()[1], entry.getKey()});
+        }
+        jdbcTemplate.batchUpdate(ADD_COUNTERS_SQL, args);
+        return args.size();
+    }
+}
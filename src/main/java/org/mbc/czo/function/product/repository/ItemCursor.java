@@ -0,0 +1,49 @@
+package org.mbc.czo.function.product.repository;
+
+import org.mbc.czo.function.product.constant.ItemSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋(seek) 페이징용 커서. 마지막으로 본 행의 (정렬값, item_id)를 "정렬타입:정렬값:id" 형태로 담아
+// URL-safe Base64 문자열로 내보낸다. 클라이언트는 내용을 몰라도 되고 그대로 다시 넘겨주기만 하면 된다.
+final class ItemCursor {
+
+    private final ItemSortType sortType;
+    private final int sortValue;   // price / likes / views (최신순이면 사용 안 함)
+    private final long lastId;
+
+    ItemCursor(ItemSortType sortType, int sortValue, long lastId) {
+        this.sortType = sortType;
+        this.sortValue = sortValue;
+        this.lastId = lastId;
+    }
+
+    ItemSortType getSortType() { return sortType; }
+
+    int getSortValue() { return sortValue; }
+
+    long getLastId() { return lastId; }
+
+    String encode() {
+        String raw = sortType.name() + ":" + sortValue + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 깨졌거나 다른 정렬 기준으로 만든 토큰이면 null -> 첫 페이지부터 조회
+    static ItemCursor decode(String token, ItemSortType expected) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !expected.name().equals(parts[0])) {
+                return null;
+            }
+            return new ItemCursor(expected, Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) { // Base64 오류, NumberFormatException 모두 포함
+            return null;
+        }
+    }
+}
@@ -12,6 +12,10 @@ public interface ItemImgRepository extends JpaRepository<ItemImg, Long> {
     // 이미지가 잘 저장됐는지 테스트 코드를 작성하기 위한 메서드 추가
     List<ItemImg> findByItemIdOrderByIdAsc(Long itemId);
 
+    // 상품 ID로 연결된 이미지 파일명 (상품 삭제 시 디스크 파일 정리용)
+    @Query("select i.imgName from ItemImg i where i.item.id = :itemId")
+    List<String> findImgNamesByItemId(@Param("itemId") Long itemId);
+
     // 상품 ID로 연결된 이미지 모두 삭제
     @Modifying
     @Query("delete from ItemImg i where i.item.id = :itemId")
@@ -8,6 +8,8 @@ import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 
 public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredicateExecutor<Item>, ItemRepositoryCustom {
 // Repository를 인터페이스로 만들지 않으면, Spring Data JPA가 구현체를 자동 생성하지 못해서 서비스 주입 시 Bean이 없어 오류가 발생
@@ -24,4 +26,14 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
     @Modifying
     @Query("update Item i set i.likes = i.likes + 1 where i.id = :id")
     void addLike(@Param("id") Long id);
+
+    // 상품 상세의 조회수/좋아요 수만 (PK 한 건) - 버퍼 반영 때마다 바뀌므로 상세 캐시에 넣지 않고 매번 읽음
+    @Query("select i.views as views, i.likes as likes from Item i where i.id = :id")
+    Optional<ItemCounts> findCountsById(@Param("id") Long id);
+
+    interface ItemCounts {
+        int getViews();
+
+        int getLikes();
+    }
 }
@@ -1,15 +1,27 @@
 package org.mbc.czo.function.product.repository;
 
+import org.mbc.czo.function.product.constant.ItemSortType;
 import org.mbc.czo.function.product.domain.Item;
 import org.mbc.czo.function.product.dto.ItemSearchDto;
 import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.dto.MainItemSliceDto;
 import org.springframework.data.domain.Page;
 
 import java.awt.print.Pageable;
+import java.util.List;
 
 public interface ItemRepositoryCustom {
 
     Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, org.springframework.data.domain.Pageable pageable);
     // 상품 조회 조건을 담고 있는 itemSearchDto 객체와 페이징 정보를 담고 있는 pageable 객체를 파라미터로 받는 getAdminItemPage 메소드를 정의. 반환데이터로 Page<Item>객체를 반환
     Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, org.springframework.data.domain.Pageable pageable);
+
+    // 검색 인덱스(ItemSearchIndex)에서 받은 점수순 상품 ID(rankedIds)로 조회
+    // rankedIds 가 null 이면 기존 like 검색, 아니면 점수순으로 페이징 (pageable 의 정렬은 무시)
+    Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, org.springframework.data.domain.Pageable pageable, List<Long> rankedIds);
+
+    Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, org.springframework.data.domain.Pageable pageable, List<Long> rankedIds);
+
+    // 커서(키셋) 방식 메인 상품 조회. offset/COUNT 없이 마지막으로 본 (정렬값, id) 다음부터 size개를 가져온다
+    MainItemSliceDto getMainItemSlice(ItemSearchDto itemSearchDto, ItemSortType sortType, String cursor, int size);
 }
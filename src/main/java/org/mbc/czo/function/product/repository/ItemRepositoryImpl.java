@@ -1,18 +1,25 @@
 package org.mbc.czo.function.product.repository;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.mbc.czo.function.common.paging.CountStrategy;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.common.search.TextSearchIndex;
 import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.constant.ItemSortType;
 import org.mbc.czo.function.product.domain.Item;
 import org.mbc.czo.function.product.domain.QItem;
 import org.mbc.czo.function.product.domain.QItemImg;
 import org.mbc.czo.function.product.dto.ItemSearchDto;
 import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.dto.MainItemSliceDto;
 import org.mbc.czo.function.product.dto.QMainItemDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -22,14 +29,20 @@ import org.thymeleaf.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ItemRepositoryImpl implements ItemRepositoryCustom { // ItemRepositoryCustom 상속
 
+    public static final String COUNT_KEY_PREFIX = "item:"; // 상품 목록 count 캐시 키 (등록/삭제 시 비움)
+
     private JPAQueryFactory queryFactory; // 동적으로 쿼리를 생성하기 위해 JPAQueryFactory 클래스 사용
+    private final Paginator paginator;    // 목록 조회 + count 방식
 
-    public ItemRepositoryImpl(EntityManager em) { // JPAQueryFactory의 생성자로 객체를 넣어 줌
+    public ItemRepositoryImpl(EntityManager em, Paginator paginator) { // JPAQueryFactory의 생성자로 객체를 넣어 줌
         this.queryFactory = new JPAQueryFactory(em);
+        this.paginator = paginator;
     }
 
     private BooleanExpression searchSellStatusEq(ItemSellStatus searchSellStatus) { // 상품 판매 상태 조건이 전체 null 일 경우 null을 리턴
@@ -67,20 +80,49 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom { // ItemReposit
 
     @Override
     public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
-        QueryResults<Item> results = queryFactory // queryFactory를 이용해 쿼리 생성
+        return getAdminItemPage(itemSearchDto, pageable, null);
+    }
+
+    @Override
+    public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable, List<Long> rankedIds) {
+        if (rankedIds != null) { // 검색 인덱스 결과 -> 점수순 페이징
+            if (rankedIds.isEmpty()) {
+                return new PageImpl<>(new ArrayList<>(), pageable, 0);
+            }
+            // 검색 결과 중 등록일/판매상태 조건을 통과한 상품만 점수 순서 그대로 남김
+            List<Long> matched = keepRanked(rankedIds, queryFactory
+                    .select(QItem.item.id)
+                    .from(QItem.item)
+                    .where(QItem.item.id.in(rankedIds),
+                            regDtsAfter(itemSearchDto.getSearchDateType()),
+                            searchSellStatusEq(itemSearchDto.getSearchSellStatus()))
+                    .fetch());
+            List<Long> pageIds = TextSearchIndex.pageOf(matched, pageable);
+            List<Item> content = pageIds.isEmpty() ? new ArrayList<>() : TextSearchIndex.inRankOrder(queryFactory
+                    .selectFrom(QItem.item)
+                    .where(QItem.item.id.in(pageIds))
+                    .fetch(), pageIds, Item::getId);
+            return new PageImpl<>(content, pageable, matched.size());
+        }
+
+        BooleanExpression[] where = { // 조건절 : BooleanExpression반환하는 조건문들을 넣어줌 ','단위로 넣어줄 경우 and 조건으로 인식
+                regDtsAfter(itemSearchDto.getSearchDateType()),
+                searchSellStatusEq(itemSearchDto.getSearchSellStatus()),
+                searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery())
+        };
+        JPQLQuery<Item> query = queryFactory // queryFactory를 이용해 쿼리 생성
                 .selectFrom(QItem.item) // 상품데이터를 조회하기 위해서 Qitem의 item을 지정
-                .where(regDtsAfter(itemSearchDto.getSearchDateType()), // 조건절 : BooleanExpression반환하는 조건문들을 넣어줌 ','단위로 넣어줄 경우 and 조건으로 인식
-                        searchSellStatusEq(itemSearchDto.getSearchSellStatus()),
-                        searchByLike(itemSearchDto.getSearchBy(),
-                                itemSearchDto.getSearchQuery()))
-                .orderBy(QItem.item.id.desc())
-                .offset(pageable.getOffset()) // 데이터를 가지고 올 시작 인덱스를 지정
-                .limit(pageable.getPageSize()) // 한번에 가지고 올 최대 개수를 지정
-                .fetchResults(); // 조회한 리스트 및 전체 개수를 포함하는 QueryResults를 반환 상품 데이터 리스트 조회 및 상품 데이터 전체 개수를 조회하는 2번의 쿼리문이 실행
-
-        List<Item> content = results.getResults();
-        long total = results.getTotal();
-        return new PageImpl<>(content, pageable, total); // page 클래스의 구현체인 pageimpl 객체로 반환
+                .where(where)
+                .orderBy(QItem.item.id.desc());
+
+        // offset/limit 는 paginator 가 붙이고, 전체 개수는 같은 조건의 count 쿼리를 따로 (짧은 마지막 페이지면 생략, 같은 조건은 잠깐 캐시)
+        String countKey = COUNT_KEY_PREFIX + "admin:" + itemSearchDto.getSearchDateType() + ":" + itemSearchDto.getSearchSellStatus()
+                + ":" + itemSearchDto.getSearchBy() + ":" + itemSearchDto.getSearchQuery();
+        return paginator.page(query, pageable, CountStrategy.CACHED_APPROX, countKey, () -> queryFactory
+                .select(QItem.item.count())
+                .from(QItem.item)
+                .where(where)
+                .fetchOne());
     }
 
     private BooleanExpression itemNmLike(String searchQuery) { // 검새어가 널이 아니면  상품명에 해당 검색어가 포함되는 상품을 조회하는 조건을 반환
@@ -117,34 +159,147 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom { // ItemReposit
 
     @Override
     public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
+        return getMainItemPage(itemSearchDto, pageable, null);
+    }
+
+    @Override
+    public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable, List<Long> rankedIds) {
         QItem item = QItem.item;
         QItemImg itemImg = QItemImg.itemImg;
+        QMainItemDto dto = new QMainItemDto(
+                item.id,
+                item.itemNm,
+                item.itemDetail,
+                itemImg.thumbUrl.coalesce(itemImg.imgUrl), // 썸네일이 있으면 썸네일, 아직 없으면 원본
+                item.price
+        );
 
-        QueryResults<MainItemDto> results = queryFactory
-                .select(
-                        new QMainItemDto(
-                                item.id,
-                                item.itemNm,
-                                item.itemDetail,
-                                itemImg.imgUrl,
-                                item.price
-                        )
-                )
+        if (rankedIds != null) { // 검색 인덱스 결과 -> 점수순 페이징
+            if (rankedIds.isEmpty()) {
+                return new PageImpl<>(new ArrayList<>(), pageable, 0);
+            }
+            List<Long> matched = keepRanked(rankedIds, queryFactory
+                    .select(item.id)
+                    .from(itemImg)
+                    .join(itemImg.item, item)
+                    .where(itemImg.repimgYn.eq("Y"), item.id.in(rankedIds))
+                    .fetch());
+            List<Long> pageIds = TextSearchIndex.pageOf(matched, pageable);
+            List<MainItemDto> content = pageIds.isEmpty() ? new ArrayList<>() : TextSearchIndex.inRankOrder(queryFactory
+                    .select(dto)
+                    .from(itemImg)
+                    .join(itemImg.item, item)
+                    .where(itemImg.repimgYn.eq("Y"), item.id.in(pageIds))
+                    .fetch(), pageIds, MainItemDto::getId);
+            return new PageImpl<>(content, pageable, matched.size());
+        }
+
+        BooleanExpression[] where = {
+                itemImg.repimgYn.eq("Y"),
+                itemNmLike(itemSearchDto.getSearchQuery())
+        };
+        JPQLQuery<MainItemDto> query = queryFactory
+                .select(dto)
                 .from(itemImg)
                 .join(itemImg.item, item)
-                .where(itemImg.repimgYn.eq("Y"))
-                .where(itemNmLike(itemSearchDto.getSearchQuery()))
-                .orderBy(toOrderSpecifiers(pageable.getSort(), item))   // 정렬 반영
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
+                .where(where)
+                .orderBy(toOrderSpecifiers(pageable.getSort(), item));   // 정렬 반영
 
-        List<MainItemDto> content = results.getResults();
-        long total = results.getTotal();
+        // 개수는 정렬과 무관하므로 검색어 기준으로만 캐시
+        String countKey = COUNT_KEY_PREFIX + "main:like:" + itemSearchDto.getSearchQuery();
+        return paginator.page(query, pageable, CountStrategy.CACHED_APPROX, countKey, () -> queryFactory
+                .select(itemImg.count())
+                .from(itemImg)
+                .join(itemImg.item, item)
+                .where(where)
+                .fetchOne());
+    }
+    @Override
+    public MainItemSliceDto getMainItemSlice(ItemSearchDto itemSearchDto, ItemSortType sortType, String cursor, int size) {
+        QItem item = QItem.item;
+        QItemImg itemImg = QItemImg.itemImg;
 
-        return new PageImpl<>(content, pageable, total);
+        ItemCursor after = ItemCursor.decode(cursor, sortType);
+        NumberPath<Integer> sortKey = sortKeyPath(sortType, item); // 최신순이면 null (id만으로 정렬)
+        QMainItemDto dto = new QMainItemDto(item.id, item.itemNm, item.itemDetail,
+                itemImg.thumbUrl.coalesce(itemImg.imgUrl), item.price); // 썸네일 우선
+
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        if (sortKey != null) {
+            orders.add(sortType.isAscending() ? sortKey.asc() : sortKey.desc());
+        }
+        // 같은 가격/좋아요/조회수끼리 순서가 흔들리지 않도록 id를 보조 정렬키로 사용
+        orders.add(sortType.isAscending() ? item.id.asc() : item.id.desc());
+
+        List<Tuple> rows = queryFactory
+                .select(dto, sortKey != null ? sortKey : item.price)
+                .from(itemImg)
+                .join(itemImg.item, item)
+                .where(itemImg.repimgYn.eq("Y"),
+                        itemNmLike(itemSearchDto.getSearchQuery()),
+                        seekAfter(after, sortType, sortKey, item))
+                .orderBy(orders.toArray(new OrderSpecifier<?>[0]))
+                .limit(size + 1) // 한 건 더 읽어서 다음 페이지 존재 여부만 판단 (COUNT 쿼리 없음)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        List<MainItemDto> content = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            content.add(row.get(dto));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            Integer lastKey = sortKey != null ? last.get(sortKey) : last.get(item.price);
+            nextCursor = new ItemCursor(sortType, lastKey == null ? 0 : lastKey, last.get(dto).getId()).encode();
+        }
+        return new MainItemSliceDto(content, nextCursor, hasNext);
+    }
+
+    private NumberPath<Integer> sortKeyPath(ItemSortType sortType, QItem item) {
+        switch (sortType) {
+            case PRICE_ASC:
+            case PRICE_DESC: return item.price;
+            case LIKES_DESC: return item.likes;
+            case VIEWS_ASC:
+            case VIEWS_DESC: return item.views;
+            default:         return null;
+        }
     }
-    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort, QItem item) {
+
+    // 오름차순: key > v or (key = v and id > lastId) / 내림차순은 부등호만 반대
+    private BooleanExpression seekAfter(ItemCursor after, ItemSortType sortType, NumberPath<Integer> sortKey, QItem item) {
+        if (after == null) {
+            return null;
+        }
+        boolean asc = sortType.isAscending();
+        BooleanExpression idAfter = asc ? item.id.gt(after.getLastId()) : item.id.lt(after.getLastId());
+        if (sortKey == null) {
+            return idAfter;
+        }
+        BooleanExpression keyAfter = asc ? sortKey.gt(after.getSortValue()) : sortKey.lt(after.getSortValue());
+        return keyAfter.or(sortKey.eq(after.getSortValue()).and(idAfter));
+    }
+
+    // 점수순 ID 목록에서 DB 조건을 통과한(matchedIds) 것만 순서를 유지한 채 남김
+    private static List<Long> keepRanked(List<Long> rankedIds, List<Long> matchedIds) {
+        Set<Long> matched = new HashSet<>(matchedIds);
+        List<Long> result = new ArrayList<>(matched.size());
+        for (Long id : rankedIds) {
+            if (matched.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    // 정렬 조건 -> QueryDSL OrderSpecifier 변환 (JMH 벤치마크에서 직접 호출하므로 package-private)
+    OrderSpecifier<?>[] toOrderSpecifiers(Sort sort, QItem item) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         for (Sort.Order o : sort) {
             PathBuilder<Item> pathBuilder = new PathBuilder<>(Item.class, "item");
@@ -0,0 +1,88 @@
+package org.mbc.czo.function.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 재고 차감/복구를 UPDATE 한 번으로 처리 (엔티티 변경 감지 대신 DB에서 조건부로 계산)
+// update item set stock_number = stock_number - case item_id when ? then ? ... end
+//  where item_id in (...) and stock_number >= case item_id when ? then ? ... end
+// -> 재고가 충분한 행만 바뀌므로, 바뀐 행 수가 상품 수보다 적으면 재고 부족
+@Repository
+@RequiredArgsConstructor
+public class ItemStockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // key: item_id, value: 차감 수량. 차감된 행 수 반환 (모두 성공이면 counts.size())
+    public int decreaseStock(Map<Long, Integer> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> sorted = new TreeMap<>(counts); // item_id 순서 고정
+        String caseExpr = caseExpression(sorted.size());
+        String sql = "update item set stock_number = stock_number - " + caseExpr
+                + " where item_id in (" + placeholders(sorted.size()) + ")"
+                + " and stock_number >= " + caseExpr;
+
+        List<Object> args = new ArrayList<>();
+        addCaseArgs(args, sorted);
+        args.addAll(sorted.keySet());
+        addCaseArgs(args, sorted);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    // 주문 취소 시 재고 복구
+    public int increaseStock(Map<Long, Integer> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> sorted = new TreeMap<>(counts);
+        String sql = "update item set stock_number = stock_number + " + caseExpression(sorted.size())
+                + " where item_id in (" + placeholders(sorted.size()) + ")";
+
+        List<Object> args = new ArrayList<>();
+        addCaseArgs(args, sorted);
+        args.addAll(sorted.keySet());
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    // 현재 재고 조회 (재고 부족 안내 메시지용)
+    public Map<Long, Integer> findStocks(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Integer> stocks = new HashMap<>();
+        jdbcTemplate.query("select item_id, stock_number from item where item_id in (" + placeholders(itemIds.size()) + ")",
+                rs -> { stocks.put(rs.getLong("item_id"), rs.getInt("stock_number")); },
+                itemIds.toArray());
+        return stocks;
+    }
+
+    private String caseExpression(int size) {
+        StringBuilder sb = new StringBuilder("case item_id");
+        for (int i = 0; i < size; i++) {
+            sb.append(" when ? then ?");
+        }
+        return sb.append(" end").toString();
+    }
+
+    private String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    private void addCaseArgs(List<Object> args, Map<Long, Integer> counts) {
+        counts.forEach((itemId, count) -> {
+            args.add(itemId);
+            args.add(count);
+        });
+    }
+}
@@ -9,9 +9,17 @@ import lombok.extern.java.Log;
 // 이 클래스가 스프링의 "서비스 레이어" 컴포넌트임을 표시.
 // 스프링이 자동으로 빈(Bean)으로 등록해서 다른 곳에서 주입(@Autowired 등)해 쓸 수 있게 해줘요.
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.UUID;
 
 @Service // 이 클래스를 스프링 서비스로 등록한다는 표시
@@ -25,55 +33,69 @@ public class FileService {
      *  - 실제로 저장된 "파일 이름"만 반환한다.
      */
 
-    // 파일 업로드 메서드
+    // 파일 업로드 메서드 (바이트 배열 버전)
     // uploadPath: 파일을 저장할 폴더 경로 (예: "C:/shop/item")
     // originalFileName: 원본 파일명 (예: "cat.png")
-    // fileData: 파일 내용(바이트 배열) — 진짜 파일의 속살!
+    // fileData: 파일 내용(바이트 배열)
+    // ※ 파일 전체가 이미 메모리에 올라와 있는 경우에만 사용. 업로드 파일은 아래 MultipartFile 버전을 쓰세요.
     public String uploadFile(String uploadPath, String originalFileName, byte[] fileData) throws Exception {
-        // 1) 업로드 폴더(우편함) 준비하기
-        File uploadDir = new File(uploadPath);  // 해당 경로의 폴더를 가리키는 객체
-        if (!uploadDir.exists()) {              // 폴더가 없으면
-            boolean created = uploadDir.mkdirs(); // 필요한 상위폴더까지 전부 생성(예: C:/shop/image)
-            if (created) {
+        return uploadFile(uploadPath, originalFileName, new ByteArrayInputStream(fileData));
+    }
+
+    // 파일 업로드 메서드 (MultipartFile 버전)
+    // - getBytes()로 20MB 파일을 통째로 힙에 올리지 않고,
+    //   톰캣이 디스크에 임시 저장해 둔 업로드 파일을 스트림으로 바로 복사한다.
+    public String uploadFile(String uploadPath, MultipartFile multipartFile) throws Exception {
+        try (InputStream in = multipartFile.getInputStream()) {
+            return uploadFile(uploadPath, multipartFile.getOriginalFilename(), in);
+        }
+    }
+
+    // 파일 업로드 메서드 (스트림 버전) - 실제 저장은 모두 여기서 처리
+    // 1) 같은 폴더에 임시파일(.tmp)로 조금씩 복사 (메모리에는 작은 버퍼만 사용)
+    // 2) 복사가 끝나면 최종 이름으로 원자적 이동(ATOMIC_MOVE)
+    //    -> 다른 요청이 반쯤 쓰인 파일을 보는 일이 없고, 실패하면 임시파일만 지우면 된다.
+    public String uploadFile(String uploadPath, String originalFileName, InputStream in) throws Exception {
+        // 1) 업로드 폴더 준비하기 (없으면 상위 폴더까지 생성)
+        Path uploadDir = Paths.get(uploadPath);
+        if (!Files.isDirectory(uploadDir)) {
+            try {
+                Files.createDirectories(uploadDir);
                 log.info("업로드 디렉토리를 생성했습니다: " + uploadPath);
-            } else {
+            } catch (IOException e) {
                 log.warning("업로드 디렉토리 생성에 실패했습니다: " + uploadPath);
-                // 폴더가 없는데 만들지도 못했다면 더 진행 불가 → 예외 던짐
-                throw new Exception("디렉토리 생성에 실패했습니다: " + uploadPath);
+                throw new Exception("디렉토리 생성에 실패했습니다: " + uploadPath, e);
             }
         }
 
-        // 2) 파일명이 겹치지 않도록 랜덤 이름(UUID) 만들기
-        UUID uuid = UUID.randomUUID(); // 예: "f6b1a2c3-...-d9e0"
-
-        // 3) 원본 파일의 확장자만 뽑아오기 (".png" 같은 부분)
-        //    - lastIndexOf(".")가 -1이면 확장자가 없는 파일이므로 substring에서 에러가 날 수 있음.
-        //    - 지금 코드는 확장자가 반드시 있다고 가정하고 있어요.
-        String extension = originalFileName.substring(originalFileName.lastIndexOf(".")); // 예: ".png"
-
-        // 4) 최종 저장 파일명 만들기: "UUID + 확장자"
-        //    - 예: "f6b1a2c3-...-d9e0.png"
-        String savedFileName = uuid.toString() + extension;
+        // 2) 파일명이 겹치지 않도록 "UUID + 확장자"로 저장 파일명 만들기 (예: "f6b1a2c3-...-d9e0.png")
+        String savedFileName = UUID.randomUUID() + getExtension(originalFileName);
+        Path target = uploadDir.resolve(savedFileName);
 
-        // 5) 파일이 실제로 저장될 "전체 경로" 만들기
-        //    - 예: "C:/shop/image/f6b1a2c3-...-d9e0.png"
-        //    - 여기서는 "/"를 썼지만, 운영체제에 따라 구분자가 다를 수 있어요(Windows는 보통 "\").
-        //      자바는 대부분 "/"도 이해하지만, 더 안전하게는 Paths.get(uploadPath, savedFileName) 사용을 권장.
-        String fileUploadFullUrl = uploadPath + "/" + savedFileName;
-
-        // 6) 파일을 디스크에 쓰기 위한 파이프(출구) 열기
-        //    FileOutputStream: 바이트 단위로 파일로 내보내는 통로.
-        //    같은 이름의 파일이 이미 있으면 덮어씁니다.
-        FileOutputStream fos = new FileOutputStream(fileUploadFullUrl);
-
-        // 7) 진짜 파일 데이터 쓰기
-        fos.write(fileData); // 바이트 배열을 통째로 기록
+        // 3) 임시파일에 스트림 복사 후 최종 위치로 이동
+        //    임시파일을 같은 폴더에 만들어야 같은 디스크 안에서 이름만 바꾸는 원자적 이동이 가능
+        Path temp = Files.createTempFile(uploadDir, "upload-", ".tmp");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING); // 원자적 이동을 지원하지 않는 파일시스템
+            }
+        } finally {
+            Files.deleteIfExists(temp); // 성공했으면 이미 이동되어 없음, 실패했으면 반쯤 쓰인 임시파일 정리
+        }
 
-        // 8) 통로 닫기 (안 닫으면 자원 누수 가능)
-        fos.close();
+        // 4) 컨트롤러/서비스 쪽에서 DB에 이 이름을 저장해두고, 나중에 이 이름으로 파일을 조회/표시
+        return savedFileName;
+    }
 
-        // 9) 컨트롤러/서비스 쪽에서 DB에 이 이름을 저장해두고, 나중에 이 이름으로 파일을 조회/표시해요.
-        return savedFileName; // 예: "f6b1a2c3-...-d9e0.png"
+    // 원본 파일의 확장자만 뽑아오기 (".png" 같은 부분). 확장자가 없으면 빈 문자열
+    private String getExtension(String originalFileName) {
+        if (originalFileName == null || originalFileName.lastIndexOf(".") < 0) {
+            return "";
+        }
+        return originalFileName.substring(originalFileName.lastIndexOf("."));
     }
 
     // 파일 삭제 메서드
@@ -0,0 +1,89 @@
+package org.mbc.czo.function.product.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.counter.DeltaCounter;
+import org.mbc.czo.function.product.repository.ItemCounterRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 상품 조회수/좋아요 write-behind 버퍼
+// 요청마다 "update item set views = views + 1"을 날리면 인기 상품 한 행에 잠금이 몰려 재고 차감까지 막히므로
+// 메모리에서 합산해 두었다가 주기적으로(기본 1초), 그리고 종료 시 한 번에 반영한다.
+@Log4j2
+@Component
+public class ItemCounterBuffer {
+
+    private final DeltaCounter views = new DeltaCounter();
+    private final DeltaCounter likes = new DeltaCounter();
+
+    private final ItemCounterRepository itemCounterRepository;
+    private final Timer flushTimer;
+
+    public ItemCounterBuffer(ItemCounterRepository itemCounterRepository, MeterRegistry meterRegistry) {
+        this.itemCounterRepository = itemCounterRepository;
+        this.flushTimer = Timer.builder("item.counter.flush")
+                .description("조회수/좋아요 증가분 DB 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("item.counter.pending", views, DeltaCounter::pendingTotal)
+                .description("DB에 아직 반영되지 않은 증가분")
+                .tag("type", "views")
+                .register(meterRegistry);
+        Gauge.builder("item.counter.pending", likes, DeltaCounter::pendingTotal)
+                .description("DB에 아직 반영되지 않은 증가분")
+                .tag("type", "likes")
+                .register(meterRegistry);
+    }
+
+    public void incrementView(Long itemId) {
+        views.increment(itemId);
+    }
+
+    public void incrementLike(Long itemId) {
+        likes.increment(itemId);
+    }
+
+    // 화면에 보여줄 때 DB 값에 더해줄 미반영 증가분
+    public long pendingViews(Long itemId) {
+        return views.pending(itemId);
+    }
+
+    public long pendingLikes(Long itemId) {
+        return likes.pending(itemId);
+    }
+
+    @Scheduled(fixedDelayString = "${item.counter.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> viewDeltas = views.drain();
+        Map<Long, Long> likeDeltas = likes.drain();
+        if (viewDeltas.isEmpty() && likeDeltas.isEmpty()) {
+            return;
+        }
+
+        // item_id별로 {views, likes} 증가분을 합쳐서 한 행당 UPDATE 한 번
+        Map<Long, long[]> merged = new HashMap<>();
+        viewDeltas.forEach((id, delta) -> merged.computeIfAbsent(id, k -> new long[2])[0] = delta);
+        likeDeltas.forEach((id, delta) -> merged.computeIfAbsent(id, k -> new long[2])[1] = delta);
+
+        try {
+            int rows = flushTimer.recordCallable(() -> itemCounterRepository.addCounters(merged));
+            log.debug("item counter flush: {} rows", rows);
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 다시 버퍼에 넣어 다음 주기에 재시도
+            log.warn("item counter flush failed, will retry: {}", e.getMessage());
+            viewDeltas.forEach(views::add);
+            likeDeltas.forEach(likes::add);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
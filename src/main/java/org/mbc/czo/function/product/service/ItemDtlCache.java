@@ -0,0 +1,177 @@
+package org.mbc.czo.function.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.mbc.czo.function.product.dto.ItemFormDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 상품 상세(ItemFormDto) 캐시
+// 1차: 서버 메모리 LRU (최대 item.cache.max-entries 개)
+// 2차: Redis (item.cache.redis.enabled=true 일 때만) - 여러 서버가 같은 상세 데이터를 공유
+// 상품/이미지 수정·삭제 시 트랜잭션 커밋 후 evict, Redis 사용 시 다른 서버에도 evict 메시지를 발행한다.
+@Log4j2
+@Component
+public class ItemDtlCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "item:dtl:evict";
+    private static final String KEY_PREFIX = "item:dtl:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final long ttlMillis;
+    private final Map<Long, Entry> local;
+
+    public ItemDtlCache(StringRedisTemplate redisTemplate,
+                        ObjectMapper objectMapper,
+                        @Value("${item.cache.redis.enabled:false}") boolean redisEnabled,
+                        @Value("${item.cache.max-entries:1000}") int maxEntries,
+                        @Value("${item.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        // accessOrder=true 인 LinkedHashMap -> 가장 오래 안 쓴 상품부터 밀어냄
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // 캐시에 있으면 사본을 돌려주고, 없으면 loader로 조립한 결과를 저장 후 돌려줌
+    public ItemFormDto get(Long itemId, Supplier<ItemFormDto> loader) {
+        ItemFormDto cached = getLocal(itemId);
+        if (cached == null && redisEnabled) {
+            cached = getRedis(itemId);
+            if (cached != null) {
+                putLocal(itemId, cached);
+            }
+        }
+        if (cached == null) {
+            cached = loader.get();
+            putLocal(itemId, cached);
+            if (redisEnabled) {
+                putRedis(itemId, cached);
+            }
+        }
+        return copy(cached); // 호출한 쪽에서 값을 바꿔도 캐시 원본은 그대로
+    }
+
+    // 트랜잭션 안이면 지금 한 번 + 커밋 후 한 번 더 지움 (커밋 전에 다른 요청이 옛 값을 다시 채우는 경우 방지)
+    public void evict(Long itemId) {
+        if (itemId == null) {
+            return;
+        }
+        evictNow(itemId);
+        TxCallbacks.afterCommit(() -> evictNow(itemId));
+    }
+
+    private void evictNow(Long itemId) {
+        removeLocal(itemId);
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(KEY_PREFIX + itemId);
+                redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(itemId));
+            } catch (Exception e) {
+                log.warn("item cache redis evict failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 다른 서버에서 발행한 evict 메시지 수신 -> 내 로컬 캐시만 지움
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            removeLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("invalid item cache evict message");
+        }
+    }
+
+    private ItemFormDto getLocal(Long itemId) {
+        synchronized (local) {
+            Entry entry = local.get(itemId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt < System.currentTimeMillis()) {
+                local.remove(itemId);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void putLocal(Long itemId, ItemFormDto value) {
+        synchronized (local) {
+            local.put(itemId, new Entry(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private void removeLocal(Long itemId) {
+        synchronized (local) {
+            local.remove(itemId);
+        }
+    }
+
+    // Redis 장애가 나도 상품 페이지는 DB로 계속 동작하도록 예외는 로그만 남김
+    private ItemFormDto getRedis(Long itemId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + itemId);
+            return json == null ? null : objectMapper.readValue(json, ItemFormDto.class);
+        } catch (Exception e) {
+            log.warn("item cache redis get failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRedis(Long itemId, ItemFormDto value) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + itemId, objectMapper.writeValueAsString(value), Duration.ofMillis(ttlMillis));
+        } catch (JsonProcessingException e) {
+            log.warn("item cache serialize failed: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("item cache redis put failed: {}", e.getMessage());
+        }
+    }
+
+    private ItemFormDto copy(ItemFormDto source) {
+        ItemFormDto dto = new ItemFormDto();
+        dto.setId(source.getId());
+        dto.setItemNm(source.getItemNm());
+        dto.setPrice(source.getPrice());
+        dto.setItemDetail(source.getItemDetail());
+        dto.setStockNumber(source.getStockNumber());
+        dto.setItemSellStatus(source.getItemSellStatus());
+        dto.setViews(source.getViews());
+        dto.setLikes(source.getLikes());
+        dto.setItemImgDtoList(new ArrayList<>(source.getItemImgDtoList()));
+        dto.setItemImgIds(new ArrayList<>(source.getItemImgIds()));
+        return dto;
+    }
+
+    private static final class Entry {
+        private final ItemFormDto value;
+        private final long expireAt;
+
+        private Entry(ItemFormDto value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.mbc.czo.function.product.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.mbc.czo.function.product.constant.ItemSortType;
+import org.mbc.czo.function.product.dto.ItemSearchDto;
+import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 메인(/) 과 상품 목록(/products) 첫 페이지 캐시
+// 검색어 없이 들어오는 첫 페이지는 모든 방문자에게 같은 결과라서, 정렬(ItemSortType)별로 미리 조회해 두고 DB 없이 돌려준다.
+// item.hot-list.refresh-interval-ms 주기로 전체를 다시 만들고(조회수/좋아요 순위 반영),
+// 상품 등록/수정/삭제 시에는 커밋 후 비워서 다음 요청이 새로 채운다.
+// 다른 서버에서 바뀐 상품은 다음 주기 갱신 때 반영된다.
+@Log4j2
+@Component
+public class ItemHotList {
+
+    public static final int PAGE_SIZE = 6; // 메인/목록 화면의 한 페이지 상품 수
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private volatile Map<ItemSortType, Page<MainItemDto>> pages = new EnumMap<>(ItemSortType.class);
+
+    public ItemHotList(ItemRepository itemRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${item.hot-list.enabled:true}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${item.hot-list.refresh-interval-ms:30000}",
+            initialDelayString = "${item.hot-list.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    // 정렬별 첫 페이지를 모두 새로 조회해서 한 번에 교체
+    public void refresh() {
+        Map<ItemSortType, Page<MainItemDto>> fresh = new EnumMap<>(ItemSortType.class);
+        try {
+            for (ItemSortType sortType : ItemSortType.values()) {
+                fresh.put(sortType, load(sortType));
+            }
+            pages = fresh;
+        } catch (RuntimeException e) {
+            log.warn("메인 상품 목록 캐시 갱신 실패 - 기존 목록 유지", e);
+        }
+    }
+
+    // 캐시할 수 있는 요청(검색어 없음, 첫 페이지, 기본 크기)이면 캐시된 페이지, 아니면 null -> 호출한 쪽에서 DB 조회
+    public Page<MainItemDto> firstPage(ItemSearchDto itemSearchDto, Pageable pageable) {
+        if (!enabled || pageable.getPageNumber() != 0 || pageable.getPageSize() != PAGE_SIZE) {
+            return null;
+        }
+        if (itemSearchDto.getSearchQuery() != null && !itemSearchDto.getSearchQuery().isBlank()) {
+            return null;
+        }
+        ItemSortType sortType = ItemSortType.from(itemSearchDto.getSortBy());
+        Page<MainItemDto> page = pages.get(sortType);
+        if (page == null) { // 상품 변경으로 비워진 뒤 첫 요청 -> 이 정렬만 다시 채움
+            page = load(sortType);
+            Map<ItemSortType, Page<MainItemDto>> next = new EnumMap<>(ItemSortType.class);
+            next.putAll(pages);
+            next.put(sortType, page);
+            pages = next;
+        }
+        return page;
+    }
+
+    // 상품 등록/수정/삭제 - 커밋 후 비움
+    public void invalidate() {
+        TxCallbacks.afterCommit(() -> pages = new EnumMap<>(ItemSortType.class));
+    }
+
+    private Page<MainItemDto> load(ItemSortType sortType) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, sortType.toSort());
+        return transactionTemplate.execute(status -> itemRepository.getMainItemPage(new ItemSearchDto(), pageable));
+    }
+}
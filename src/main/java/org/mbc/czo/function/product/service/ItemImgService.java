@@ -4,6 +4,9 @@ import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.common.transaction.TxCallbacks;
+import org.mbc.czo.function.image.service.ImageVariantService;
 import org.mbc.czo.function.product.domain.ItemImg;
 import org.mbc.czo.function.product.repository.ItemImgRepository;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.util.List;
+
+@Log4j2
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -23,6 +30,12 @@ public class ItemImgService {
 
     private final FileService fileService;
 
+    private final ItemDtlCache itemDtlCache;
+
+    private final ImageVariantService imageVariantService;
+
+    private static final String IMG_URL_PREFIX = "/images/item/";
+
     // 상품 이미지 등록
     public void saveItemImg(ItemImg itemImg, MultipartFile itemImgFile) throws Exception{
         String oriImgName = itemImgFile.getOriginalFilename();
@@ -31,13 +44,16 @@ public class ItemImgService {
 
         // 파일 업로드
         if(!StringUtils.isEmpty(oriImgName)){ // 이미지 파일이 있으면
-            imgName = fileService.uploadFile(itemImgLocation, oriImgName, itemImgFile.getBytes()); // UUID+확장자가 리턴됨
-            imgUrl = "/images/item/" + imgName;
+            imgName = fileService.uploadFile(itemImgLocation, itemImgFile); // UUID+확장자가 리턴됨 (getBytes() 없이 스트림으로 저장)
+            imgUrl = IMG_URL_PREFIX + imgName;
         }
 
         // 상품 이미지 정보 저장
         itemImg.updateItemImg(oriImgName, imgName, imgUrl);
         itemImgRepository.save(itemImg);
+        if(!StringUtils.isEmpty(imgName)){ // 커밋 후 백그라운드에서 썸네일/상세/확대용 축소본 생성
+            imageVariantService.requestItemImgVariants(itemImg.getId(), itemImgLocation, imgName, IMG_URL_PREFIX);
+        }
         // imgName: 실제 로컬에 저장된 상품 이미지 파일의 이름
         // oriImgName: 업로드했던 상품 이미지 파일의 원래 이름
         // imgUrl: 업로드 결과 로컬에 저장된 상품 이미지 파일을 불러오는 경로
@@ -53,18 +69,40 @@ public class ItemImgService {
          // 기존 이미지 파일 삭제
          if (!StringUtils.isEmpty(savedItemImg.getImgName())) { // 기존에 등록된 상품 이미지 파일이 있을 경우 해당 파일 삭제 : 확인대상이 DB에 저장된 이미지 이름(String)
             fileService.deleteFile(itemImgLocation + "/" + savedItemImg.getImgName());
+            imageVariantService.deleteVariants(Path.of(itemImgLocation, savedItemImg.getImgName())); // 축소본도 삭제
 
          }
 
          String oriImgName = itemImgFile.getOriginalFilename();
-         String imgName = fileService.uploadFile(itemImgLocation, oriImgName, itemImgFile.getBytes()); // 업데이트한 상품 이미지 파일을 업로드
-         String imgUrl = "/images/item/" + imgName; // 실제 파일은 src/main/resources/static/images/item/에 있어야 브라우저가 볼 수 있음
+         String imgName = fileService.uploadFile(itemImgLocation, itemImgFile); // 업데이트한 상품 이미지 파일을 스트림으로 업로드
+         String imgUrl = IMG_URL_PREFIX + imgName; // 실제 파일은 src/main/resources/static/images/item/에 있어야 브라우저가 볼 수 있음
          savedItemImg.updateItemImg(oriImgName, imgName, imgUrl);
          // 변경된 상품 이미지 정보를 세팅
          // 중요! 상품 등록 때처럼 itemImgRepository.save()로직을 호출하지 않음. savedItemImg 엔티티는 현재 영속 상태이므로 데이터 변경만으로
          // 변경 감지 기능이 동작해 트랜잭션이 끝날 때 update 쿼리가 실행됨
+         itemDtlCache.evict(savedItemImg.getItem().getId()); // 이미지가 바뀌었으니 상품 상세 캐시 무효화
+         imageVariantService.requestItemImgVariants(itemImgId, itemImgLocation, imgName, IMG_URL_PREFIX);
 
          }
     }
 
+    // 상품 삭제 시 그 상품의 이미지 전부 삭제 - DB 행은 지금, 원본/축소본 파일은 커밋 후 (롤백되면 파일은 그대로 둠)
+    public void deleteItemImgs(Long itemId) {
+        List<String> imgNames = itemImgRepository.findImgNamesByItemId(itemId).stream()
+                .filter(imgName -> !StringUtils.isEmpty(imgName))
+                .toList();
+        itemImgRepository.deleteByItemId(itemId);
+        if (imgNames.isEmpty()) {
+            return;
+        }
+        TxCallbacks.afterCommit(() -> imgNames.forEach(imgName -> {
+            try {
+                fileService.deleteFile(itemImgLocation + "/" + imgName);
+            } catch (Exception e) {
+                log.warn("상품 이미지 파일 삭제 실패 - {}: {}", imgName, e.getMessage());
+            }
+            imageVariantService.deleteVariants(Path.of(itemImgLocation, imgName)); // 축소본도 삭제
+        }));
+    }
+
 }
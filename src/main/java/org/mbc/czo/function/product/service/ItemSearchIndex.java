@@ -0,0 +1,80 @@
+package org.mbc.czo.function.product.service;
+
+import jakarta.persistence.EntityManager;
+import org.mbc.czo.function.common.search.TextSearchIndex;
+import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.domain.Item;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+// 상품명 검색 인덱스 - itemNm like '%검색어%' 전체 스캔 대신 같은 결과를 점수순 상품 ID 목록으로 돌려준다.
+// (관리자 목록의 상품명 검색, 메인 목록 검색 모두 상품명만 보므로 상세 설명은 색인하지 않음)
+// 다른 서버에서 바뀐 상품은 item.search.rebuild-interval-ms 주기의 전체 재색인으로 맞춘다.
+@Component
+public class ItemSearchIndex extends TextSearchIndex {
+
+    private static final String F_NM = "itemNm";
+    private static final String F_STATUS = "itemSellStatus";
+    private static final List<String> FIELDS = List.of(F_NM);
+
+    private static final int REBUILD_BATCH = 500;
+
+    private final EntityManager em;
+
+    public ItemSearchIndex(PlatformTransactionManager transactionManager,
+                           EntityManager em,
+                           @Value("${item.search.enabled:true}") boolean enabled,
+                           @Value("${item.search.max-hits:1000}") int maxHits) {
+        super("상품", enabled, maxHits, transactionManager);
+        this.em = em;
+    }
+
+    @Scheduled(fixedDelayString = "${item.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${item.search.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    protected List<Doc> loadAfter(long afterId) {
+        return em.createQuery(
+                        "select i.id, i.itemNm, i.itemSellStatus from Item i " +
+                                "where i.id > :after order by i.id", Object[].class)
+                .setParameter("after", afterId)
+                .setMaxResults(REBUILD_BATCH)
+                .getResultList().stream()
+                .map(row -> toDoc((Long) row[0], (String) row[1], (ItemSellStatus) row[2]))
+                .toList();
+    }
+
+    // 상품 등록/수정 - 지금 값으로 문서를 만들어 두고 커밋 후 반영
+    public void index(Item item) {
+        if (item != null && item.getId() != null) {
+            upsert(toDoc(item.getId(), item.getItemNm(), item.getItemSellStatus()));
+        }
+    }
+
+    // 상품 삭제 - 커밋 후 반영
+    public void delete(Long itemId) {
+        if (itemId != null) {
+            remove(itemId);
+        }
+    }
+
+    // 상품명에 검색어가 들어 있는 상품 ID (점수 높은 순, like '%검색어%' 와 같은 범위)
+    // 인덱스를 쓸 수 없는 경우(꺼짐, 준비 전, 한 글자 검색, 결과가 item.search.max-hits 개 초과) null -> 호출한 쪽에서 like 검색
+    public List<Long> search(String queryText, ItemSellStatus sellStatus) {
+        return searchIds(queryText, FIELDS, sellStatus == null ? Map.of() : Map.of(F_STATUS, sellStatus.name()));
+    }
+
+    private static Doc toDoc(Long id, String itemNm, ItemSellStatus sellStatus) {
+        return new Doc(id)
+                .text(F_NM, itemNm)
+                .keyword(F_STATUS, sellStatus == null ? null : sellStatus.name());
+    }
+}
@@ -3,15 +3,20 @@ package org.mbc.czo.function.product.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.mbc.czo.function.product.repository.ItemRepositoryImpl;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.product.constant.ItemSortType;
 import org.mbc.czo.function.product.domain.Item;
 import org.mbc.czo.function.product.domain.ItemImg;
 import org.mbc.czo.function.product.dto.ItemFormDto;
 import org.mbc.czo.function.product.dto.ItemImgDto;
 import org.mbc.czo.function.product.dto.ItemSearchDto;
 import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.dto.MainItemSliceDto;
 import org.mbc.czo.function.product.repository.ItemImgRepository;
 import org.mbc.czo.function.product.repository.ItemRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,11 +34,19 @@ public class ItemService {
     private final ItemRepository itemRepository;
     private final ItemImgService itemImgService;
     private final ItemImgRepository itemImgRepository;
+    private final ItemCounterBuffer itemCounterBuffer;
+    private final ItemDtlCache itemDtlCache;
+    private final ItemSearchIndex itemSearchIndex;
+    private final Paginator paginator; // 목록 count 캐시
+    private final ItemHotList itemHotList; // 메인/목록 첫 페이지 캐시
 
     public Long saveItem(ItemFormDto itemFormDto, List<MultipartFile> itemImgFileList) throws Exception{
         // 상품 등록
         Item item = itemFormDto.createItem(); // 아이템 생성하여
         itemRepository.save(item); // 저장
+        itemSearchIndex.index(item); // 검색 인덱스 반영 (커밋 후)
+        paginator.evictCounts(ItemRepositoryImpl.COUNT_KEY_PREFIX); // 상품 수가 바뀌었으니 캐시된 개수 버림
+        itemHotList.invalidate();
 
         // 이미지 등록
         for(int i=0; i<itemImgFileList.size(); i++) {
@@ -55,6 +68,10 @@ public class ItemService {
         Item item = itemRepository.findById(itemFormDto.getId()).orElseThrow(EntityNotFoundException::new);
         // 상품 등록 화면에서 전달 받은 상품 아이디를 이용해 상품엔티티 조회
         item.updateItem(itemFormDto); // 상품 엔티티 업데이트
+        itemDtlCache.evict(item.getId()); // 상세 캐시 무효화 (커밋 후)
+        itemSearchIndex.index(item); // 검색 인덱스 갱신 (커밋 후)
+        paginator.evictCounts(ItemRepositoryImpl.COUNT_KEY_PREFIX); // 판매상태가 바뀌면 관리자 목록 개수도 바뀜
+        itemHotList.invalidate();
         List<Long> itemImgIds = itemFormDto.getItemImgIds(); // 상품 이미지 아이디 리스트를 조회
         // 이미지 등록
         for(int i=0; i<itemImgIds.size(); i++) {
@@ -67,10 +84,20 @@ public class ItemService {
     // 등록된 상품을 불러오는 메소드 (상세페이지)
     @Transactional(readOnly = true) // 데이터 일관성 보장, 불필요한 update sql 생성 방지 = 트랜잭션 안에서 조회하면 같은 트랜잭션 내에선 일관된 데이터를 볼 수 있음
     public ItemFormDto getItemDtl(Long itemId){
-        itemRepository.updateView(itemId); // 조회수 증가 로직 추가
+        itemCounterBuffer.incrementView(itemId); // 조회수 증가 (버퍼에 모았다가 주기적으로 DB 반영)
+        // 상품 상세는 거의 수정되지 않으므로 조립된 dto를 캐시 (수정/삭제 시 evict)
+        ItemFormDto itemFormDto = itemDtlCache.get(itemId, () -> loadItemDtl(itemId));
+        // 조회수/좋아요 수는 캐시하지 않고 DB 값 + 아직 DB에 반영되지 않은 증가분 (캐시 값에 더하면 반영 후 숫자가 줄어 보임)
+        ItemRepository.ItemCounts counts = itemRepository.findCountsById(itemId).orElseThrow(EntityNotFoundException::new);
+        itemFormDto.setViews(counts.getViews() + (int) itemCounterBuffer.pendingViews(itemId));
+        itemFormDto.setLikes(counts.getLikes() + (int) itemCounterBuffer.pendingLikes(itemId));
+        return itemFormDto;
+    }
+
+    // 캐시에 없을 때만 DB에서 상품 + 이미지를 읽어 dto로 조립
+    private ItemFormDto loadItemDtl(Long itemId) {
         List<ItemImg> itemImgList = itemImgRepository.findByItemIdOrderByIdAsc(itemId); // 해당 상품 이미지를 조회
         List<ItemImgDto> itemImgDtoList = new ArrayList<>();
-        log.info("getItemDtl+ getItemDtl");
         for(ItemImg itemImg : itemImgList) {
             ItemImgDto itemImgDto = ItemImgDto.of(itemImg); // itemImg를 ItemImgDto로 변환
             itemImgDtoList.add(itemImgDto);
@@ -78,41 +105,64 @@ public class ItemService {
         Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new); // 상품의 아이디를 통해 상품 엔티티 조회
         ItemFormDto itemFormDto = ItemFormDto.of(item); // item엔티티를 dto로 변환
         itemFormDto.setItemImgDtoList(itemImgDtoList); // dto에 이미지 파일 추가
+        itemFormDto.setViews(null); // 조회수/좋아요 수는 캐시에 넣지 않음 (getItemDtl 에서 매번 읽음)
+        itemFormDto.setLikes(null);
         log.info("getItemDtl result for itemId {}: {}", itemId, itemFormDto);
-        log.info("Item images: {}", itemImgDtoList);
         return itemFormDto;
     }
 
     // ▼ [추가] 좋아요를 증가시키는 서비스 메소드
     public void addLike(Long itemId) {
-        itemRepository.addLike(itemId);
+        itemCounterBuffer.incrementLike(itemId); // 조회수와 같이 버퍼에 모았다가 일괄 반영
     }
 
 
     @Transactional(readOnly = true)
     public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
-        // 상품 조회 (관리자용)
-        return itemRepository.getAdminItemPage(itemSearchDto, pageable);
+        // 상품 조회 (관리자용) - 상품명 검색이면 검색 인덱스(상품명만 색인)의 점수순 결과 사용
+        List<Long> rankedIds = "itemNm".equals(itemSearchDto.getSearchBy())
+                ? itemSearchIndex.search(itemSearchDto.getSearchQuery(), itemSearchDto.getSearchSellStatus())
+                : null;
+        return itemRepository.getAdminItemPage(itemSearchDto, pageable, rankedIds);
     }
 
     @Transactional(readOnly = true)
     public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
-        // 메인페이지 상품 조회 (사용자)
-        return itemRepository.getMainItemPage(itemSearchDto, pageable);
+        // 메인페이지 상품 조회 (사용자) - 정렬을 따로 고르지 않았으면 검색 인덱스의 점수순
+        // 가격/좋아요/조회수 정렬은 검색 결과 전체를 정렬해야 하므로 like 검색 + DB 정렬
+        if (itemSearchDto.getSortBy() == null || itemSearchDto.getSortBy().isBlank()) {
+            List<Long> rankedIds = itemSearchIndex.search(itemSearchDto.getSearchQuery(), null);
+            if (rankedIds != null) {
+                return itemRepository.getMainItemPage(itemSearchDto,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), rankedIds);
+            }
+        }
+        return itemRepository.getMainItemPage(itemSearchDto, pageable, null);
+    }
+
+    @Transactional(readOnly = true)
+    public MainItemSliceDto getMainItemSlice(ItemSearchDto itemSearchDto, String cursor, int size) {
+        // 메인페이지 상품 조회 (커서 방식) - 몇 번째 페이지든 비용이 같다
+        return itemRepository.getMainItemSlice(itemSearchDto, ItemSortType.from(itemSearchDto.getSortBy()), cursor, size);
     }
 
 
     @Transactional
     public void deleteItem(List<Long> itemIds) {
         for (Long itemId : itemIds) {
-            // 1. 상품 이미지 먼저 삭제
-            itemImgRepository.deleteByItemId(itemId);
+            // 1. 상품 이미지 먼저 삭제 (이미지 파일과 축소본은 커밋 후 삭제)
+            itemImgService.deleteItemImgs(itemId);
 
             // 2. 다른 연관 데이터도 삭제 (필요한 경우)
             // cartItemRepository.deleteByItemId(itemId);
 
             // 3. 마지막에 상품 삭제
             itemRepository.deleteById(itemId);
+
+            itemDtlCache.evict(itemId);
+            itemSearchIndex.delete(itemId);
+            paginator.evictCounts(ItemRepositoryImpl.COUNT_KEY_PREFIX);
+            itemHotList.invalidate();
         }
     }
 
@@ -0,0 +1,108 @@
+package org.mbc.czo.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mbc.czo.function.common.counter.DeltaCounter;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 조회수 등 증가분 카운터 테스트 (DB 없이)
+public class DeltaCounterTest {
+
+    @Test
+    @DisplayName("drain 은 쌓인 증가분을 꺼내고 비우며, 증가가 없던 id 는 다음 drain 때 맵에서 빠짐")
+    void drainAndReAdd() {
+        DeltaCounter counter = new DeltaCounter();
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5L);
+        counter.add(3L, 0L);   // 0 은 무시
+        counter.increment(null); // null 은 무시
+
+        assertEquals(2L, counter.pending(1L));
+        assertEquals(7L, counter.pendingTotal());
+        assertEquals(Map.of(1L, 2L, 2L, 5L), counter.drain());
+        assertEquals(0L, counter.pendingTotal());
+
+        // 증가가 없던 주기 -> 빈 결과 + id 제거, 그 뒤 다시 더하면 새로 쌓임
+        assertEquals(Map.of(), counter.drain());
+        counter.increment(1L);
+        assertEquals(1L, counter.pending(1L));
+        assertEquals(Map.of(1L, 1L), counter.drain());
+        assertEquals(Map.of(), counter.drain());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 더하는 동안 drain 을 반복해도 증가분이 빠지거나 두 번 세어지지 않음")
+    void concurrentIncrementAndDrain() throws Exception {
+        DeltaCounter counter = new DeltaCounter();
+        int threads = 8;
+        int perThread = 50_000;
+        long[] ids = {1L, 2L, 3L};
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        counter.increment(ids[(i + offset) % ids.length]);
+                        if (i % 1000 == 0) {
+                            Thread.yield(); // drain 의 "증가 없는 id 제거" 가 끼어들 틈을 만듦
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long[] drained = new long[ids.length + 1];
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                counter.drain().forEach((id, value) -> drained[id.intValue()] += value);
+            }
+        });
+        drainer.start();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        running.set(false);
+        drainer.join();
+        pool.shutdown();
+
+        // 마지막 drain 으로 남은 값 회수 (제거 도중 옮겨진 값까지)
+        counter.drain().forEach((id, value) -> drained[id.intValue()] += value);
+        counter.drain().forEach((id, value) -> drained[id.intValue()] += value);
+
+        long total = 0;
+        for (long id : ids) {
+            total += drained[(int) id];
+        }
+        assertEquals((long) threads * perThread, total);
+        for (long id : ids) {
+            long expected = 0;
+            for (int t = 0; t < threads; t++) {
+                for (int i = 0; i < perThread; i++) {
+                    if (ids[(i + t) % ids.length] == id) {
+                        expected++;
+                    }
+                }
+            }
+            assertEquals(expected, drained[(int) id], "id " + id);
+        }
+        assertEquals(0L, counter.pendingTotal());
+    }
+}
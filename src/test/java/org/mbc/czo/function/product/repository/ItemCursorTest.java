@@ -0,0 +1,150 @@
+package org.mbc.czo.function.product.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.constant.ItemSortType;
+import org.mbc.czo.function.product.domain.Item;
+import org.mbc.czo.function.product.domain.ItemImg;
+import org.mbc.czo.function.product.dto.ItemSearchDto;
+import org.mbc.czo.function.product.dto.MainItemDto;
+import org.mbc.czo.function.product.dto.MainItemSliceDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 메인 상품 목록 커서(키셋) 페이징 테스트 - ItemCursor 토큰 변환 + getMainItemSlice 를 H2 인메모리 DB 로 (MariaDB 대신, JMH 벤치마크와 같은 방식)
+// ItemCursor / ItemRepositoryImpl 생성자가 package-private 이라 같은 패키지에 둔다.
+public class ItemCursorTest {
+
+    private static final int ITEM_COUNT = 23;
+    private static final int PAGE_SIZE = 4; // 같은 정렬값 묶음 중간에서 페이지가 끊기도록 작게
+
+    private static SessionFactory sessionFactory;
+    private static EntityManager em;
+    private static ItemRepositoryImpl repository;
+    private static final List<Item> items = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Item.class)
+                .addAnnotatedClass(ItemImg.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:item-cursor;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+        em = sessionFactory.createEntityManager();
+        repository = new ItemRepositoryImpl(em, new Paginator(0));
+
+        em.getTransaction().begin();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = new Item();
+            item.setItemNm("상품" + i);
+            item.setPrice(1000 + (i % 3) * 500); // 가격/좋아요/조회수 모두 같은 값이 여러 개 -> id 로 순서 결정
+            item.setLikes(i % 4);
+            item.setViews(i % 2 == 0 ? 10 : 5);
+            item.setStockNumber(10);
+            item.setItemDetail("상세 " + i);
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            em.persist(item);
+
+            ItemImg itemImg = new ItemImg();
+            itemImg.setItem(item);
+            itemImg.setRepimgYn("Y");
+            itemImg.setImgUrl("/images/item/" + i + ".jpg");
+            em.persist(itemImg);
+            items.add(item);
+        }
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        em.close();
+        sessionFactory.close();
+    }
+
+    @Test
+    @DisplayName("커서 토큰은 정렬타입/정렬값/id 를 그대로 되돌리고, 다른 정렬의 토큰이나 깨진 토큰은 null (첫 페이지부터)")
+    void encodeDecode() {
+        ItemCursor cursor = new ItemCursor(ItemSortType.PRICE_DESC, 15000, 42L);
+        String token = cursor.encode();
+        assertFalse(token.contains("=") || token.contains("+") || token.contains("/"), token); // URL-safe, padding 없음
+
+        ItemCursor decoded = ItemCursor.decode(token, ItemSortType.PRICE_DESC);
+        assertNotNull(decoded);
+        assertEquals(ItemSortType.PRICE_DESC, decoded.getSortType());
+        assertEquals(15000, decoded.getSortValue());
+        assertEquals(42L, decoded.getLastId());
+
+        ItemCursor negative = ItemCursor.decode(new ItemCursor(ItemSortType.NEW, -1, Long.MAX_VALUE).encode(), ItemSortType.NEW);
+        assertEquals(-1, negative.getSortValue());
+        assertEquals(Long.MAX_VALUE, negative.getLastId());
+
+        assertNull(ItemCursor.decode(token, ItemSortType.PRICE_ASC));
+        assertNull(ItemCursor.decode(null, ItemSortType.NEW));
+        assertNull(ItemCursor.decode(" ", ItemSortType.NEW));
+        assertNull(ItemCursor.decode("%%%", ItemSortType.NEW));
+        assertNull(ItemCursor.decode(raw("NEW:abc:1"), ItemSortType.NEW));
+        assertNull(ItemCursor.decode(raw("NEW:1"), ItemSortType.NEW));
+        assertNull(ItemCursor.decode(raw("NEW:1:2:3"), ItemSortType.NEW));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ItemSortType.class)
+    @DisplayName("커서로 끝까지 넘기면 같은 정렬값 경계에서도 빠지거나 겹치는 상품 없이 (정렬값, id) 순서 그대로")
+    void pagesThroughTiesInKeysetOrder(ItemSortType sortType) {
+        List<Long> expected = items.stream()
+                .sorted(order(sortType))
+                .map(Item::getId)
+                .toList();
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MainItemSliceDto slice = repository.getMainItemSlice(new ItemSearchDto(), sortType, cursor, PAGE_SIZE);
+            em.clear();
+            assertTrue(slice.getContent().size() <= PAGE_SIZE);
+            slice.getContent().stream().map(MainItemDto::getId).forEach(actual::add);
+            assertEquals(slice.isHasNext(), slice.getNextCursor() != null);
+            cursor = slice.getNextCursor();
+            assertTrue(++pages <= ITEM_COUNT, "커서가 앞으로 가지 않음");
+        } while (cursor != null);
+
+        assertEquals(expected, actual);
+        assertEquals((ITEM_COUNT + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+    }
+
+    // getMainItemSlice 와 같은 기준: 정렬값 -> id (방향 동일), 최신순은 id 내림차순만
+    private static Comparator<Item> order(ItemSortType sortType) {
+        ToIntFunction<Item> key = switch (sortType) {
+            case PRICE_ASC, PRICE_DESC -> Item::getPrice;
+            case LIKES_DESC -> Item::getLikes;
+            case VIEWS_ASC, VIEWS_DESC -> Item::getViews;
+            default -> item -> 0;
+        };
+        Comparator<Item> comparator = Comparator.<Item>comparingInt(key).thenComparing(Item::getId);
+        return sortType.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
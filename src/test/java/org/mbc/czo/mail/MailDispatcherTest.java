@@ -0,0 +1,102 @@
+package org.mbc.czo.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mbc.czo.function.member.email.constant.OutboxMailStatus;
+import org.mbc.czo.function.member.email.domain.OutboxMail;
+import org.mbc.czo.function.member.email.repository.OutboxMailRepository;
+import org.mbc.czo.function.member.email.service.MailDispatcher;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// DB 없이 돌아가는 메일 발송기 단위 테스트 - 저장소는 mock, SMTP 는 GreenMail 내장 서버
+@ExtendWith(MockitoExtension.class)
+public class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private OutboxMailRepository repository;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> sent;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxMailRepository.class);
+    }
+
+    @Test
+    @DisplayName("대기 메일을 한 배치로 발송하고 발송 완료 처리")
+    void dispatchBatch() {
+        List<OutboxMail> batch = List.of(mail(1L, "a@test.com"), mail(2L, "b@test.com"), mail(3L, "c@test.com"));
+        when(repository.findDue(eq(OutboxMailStatus.PENDING), any(), any())).thenReturn(batch, List.of());
+
+        MailDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort());
+        dispatcher.wakeUp(); // SyncTaskExecutor -> 이 스레드에서 대기 메일이 없을 때까지 발송
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+
+        verify(repository).markSent(sent.capture(), any());
+        assertEquals(List.of(1L, 2L, 3L), sent.getValue().stream().sorted().toList());
+        verify(repository, never()).findAllById(anyCollection());
+        batch.forEach(mail -> assertEquals(1, mail.getAttempts()));
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 실패 시 재시도 시각을 미루고, 최대 횟수면 FAILED")
+    void retryWithBackoff() {
+        OutboxMail first = mail(1L, "a@test.com");
+        OutboxMail last = mail(2L, "b@test.com");
+        ReflectionTestUtils.setField(last, "attempts", 2); // 이번이 3번째(마지막) 시도
+        when(repository.findDue(eq(OutboxMailStatus.PENDING), any(), any())).thenReturn(List.of(first, last), List.of());
+        when(repository.findAllById(anyCollection())).thenReturn(List.of(first, last));
+
+        LocalDateTime before = LocalDateTime.now();
+        MailDispatcher dispatcher = dispatcher(1); // 열려 있지 않은 포트
+        dispatcher.wakeUp();
+
+        verify(repository, never()).markSent(anyCollection(), any());
+        assertEquals(OutboxMailStatus.PENDING, first.getStatus());
+        assertTrue(first.getNextAttemptAt().isAfter(before));
+        assertNotNull(first.getLastError());
+        assertEquals(OutboxMailStatus.FAILED, last.getStatus());
+    }
+
+    private MailDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(smtpPort);
+        return new MailDispatcher(repository, sender, new SyncTaskExecutor(), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), "noreply@test.com", "test", 1, 50, 3, 1000, 120000, 7);
+    }
+
+    private static OutboxMail mail(Long id, String receiver) {
+        OutboxMail mail = OutboxMail.of(receiver, "인증코드 안내", "<div>123456</div>");
+        ReflectionTestUtils.setField(mail, "id", id);
+        return mail;
+    }
+}
@@ -0,0 +1,98 @@
+package org.mbc.czo.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mbc.czo.function.boardAdmin.domain.BoardAdmin;
+import org.mbc.czo.function.boardAdmin.dto.BoardAdminDTO;
+import org.mbc.czo.function.boardAdmin.mapper.BoardAdminMapper;
+import org.mbc.czo.function.boarduser.domain.Board;
+import org.mbc.czo.function.boarduser.domain.Reply;
+import org.mbc.czo.function.boarduser.dto.BoardDTO;
+import org.mbc.czo.function.boarduser.dto.ReplyDTO;
+import org.mbc.czo.function.boarduser.mapper.BoardMapper;
+import org.mbc.czo.function.boarduser.mapper.ReplyMapper;
+import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.domain.Item;
+import org.mbc.czo.function.product.domain.ItemImg;
+import org.mbc.czo.function.product.dto.ItemFormDto;
+import org.mbc.czo.function.product.dto.ItemImgDto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// DB 없이 돌아가는 매퍼 단위 테스트 (MapStruct 생성 클래스 확인용)
+public class MapperTests {
+
+    private final BoardMapper boardMapper = Mappers.getMapper(BoardMapper.class);
+    private final ReplyMapper replyMapper = Mappers.getMapper(ReplyMapper.class);
+    private final BoardAdminMapper boardAdminMapper = Mappers.getMapper(BoardAdminMapper.class);
+
+    @Test
+    @DisplayName("Board <-> BoardDTO 변환")
+    public void boardMapperTest() {
+        Board board = Board.builder().bno(1L).title("제목").content("내용").writer("user1").category("문의").build();
+
+        BoardDTO dto = boardMapper.toDTO(board);
+        assertEquals(1L, dto.getBno());
+        assertEquals("제목", dto.getTitle());
+        assertEquals("문의", dto.getCategory());
+
+        Board entity = boardMapper.toEntity(dto);
+        assertEquals("user1", entity.getWriter());
+    }
+
+    @Test
+    @DisplayName("Reply <-> ReplyDTO 변환 (필드명이 다른 항목 포함)")
+    public void replyMapperTest() {
+        ReplyDTO dto = ReplyDTO.builder().bno(10L).replytext("댓글").replyer("user1").build();
+
+        Reply reply = replyMapper.toEntity(dto);
+        assertEquals("댓글", reply.getReplyText());
+        assertEquals(10L, reply.getBoard().getBno());
+
+        ReplyDTO back = replyMapper.toDTO(reply);
+        assertEquals(10L, back.getBno());
+        assertEquals("댓글", back.getReplytext());
+    }
+
+    @Test
+    @DisplayName("BoardAdminDTO -> BoardAdmin 변환 시 images 리스트 유지")
+    public void boardAdminMapperTest() {
+        BoardAdminDTO dto = BoardAdminDTO.builder().title("공지").content("내용").writer("admin").notice(true).build();
+
+        BoardAdmin entity = boardAdminMapper.toEntity(dto);
+        assertTrue(entity.isNotice());
+        assertNotNull(entity.getImages());
+
+        entity.setViewCount(5);
+        assertEquals(5, boardAdminMapper.toDTO(entity).getViewCount());
+    }
+
+    @Test
+    @DisplayName("Item/ItemImg -> dto 변환")
+    public void itemMapperTest() {
+        Item item = new Item();
+        item.setId(3L);
+        item.setItemNm("테스트 상품");
+        item.setPrice(1000);
+        item.setStockNumber(10);
+        item.setItemDetail("상세");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setViews(7);
+
+        ItemFormDto dto = ItemFormDto.of(item);
+        assertEquals(3L, dto.getId());
+        assertEquals(1000, dto.getPrice());
+        assertEquals(7, dto.getViews());
+
+        Item back = dto.createItem();
+        assertEquals("테스트 상품", back.getItemNm());
+
+        ItemImg itemImg = new ItemImg();
+        itemImg.setRepimgYn("Y");
+        itemImg.setImgUrl("/images/item/a.jpg");
+        ItemImgDto imgDto = ItemImgDto.of(itemImg);
+        assertEquals("Y", imgDto.getRepImgYn());
+        assertEquals("/images/item/a.jpg", imgDto.getImgUrl());
+    }
+}
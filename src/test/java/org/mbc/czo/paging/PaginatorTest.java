@@ -0,0 +1,155 @@
+package org.mbc.czo.paging;
+
+import com.querydsl.jpa.JPQLQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mbc.czo.function.common.paging.CountStrategy;
+import org.mbc.czo.function.common.paging.Paginator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// 페이지 조회 공통 처리(Paginator) 의 COUNT 전략별 total / hasNext 테스트 (DB 없이 - 쿼리는 목록을 잘라주는 mock)
+public class PaginatorTest {
+
+    private static final int ROWS = 25;
+
+    private final AtomicInteger countCalls = new AtomicInteger();
+    private final LongSupplier counter = () -> {
+        countCalls.incrementAndGet();
+        return ROWS;
+    };
+
+    @Test
+    @DisplayName("EXACT - 어느 페이지든 COUNT 를 실행하고 total 은 정확한 값")
+    void exact() {
+        Paginator paginator = new Paginator(30);
+
+        Page<Long> first = paginator.page(query(ROWS), PageRequest.of(0, 10), CountStrategy.EXACT, null, counter);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), first.getContent());
+        assertEquals(ROWS, first.getTotalElements());
+        assertTrue(first.hasNext());
+
+        Page<Long> last = paginator.page(query(ROWS), PageRequest.of(2, 10), CountStrategy.EXACT, null, counter);
+        assertEquals(5, last.getNumberOfElements());
+        assertEquals(ROWS, last.getTotalElements());
+        assertFalse(last.hasNext());
+        assertEquals(2, countCalls.get());
+    }
+
+    @Test
+    @DisplayName("SKIP_WHEN_SHORT - 첫 페이지가 다 안 찼거나 마지막 페이지면 COUNT 생략, 중간 페이지만 COUNT")
+    void skipWhenShort() {
+        Paginator paginator = new Paginator(30);
+
+        Page<Long> shortFirst = paginator.page(query(7), PageRequest.of(0, 10), CountStrategy.SKIP_WHEN_SHORT, null, counter);
+        assertEquals(7, shortFirst.getTotalElements());
+        assertFalse(shortFirst.hasNext());
+
+        Page<Long> last = paginator.page(query(ROWS), PageRequest.of(2, 10), CountStrategy.SKIP_WHEN_SHORT, null, counter);
+        assertEquals(ROWS, last.getTotalElements()); // offset 20 + 5건
+        assertFalse(last.hasNext());
+        assertEquals(0, countCalls.get());
+
+        Page<Long> middle = paginator.page(query(ROWS), PageRequest.of(1, 10), CountStrategy.SKIP_WHEN_SHORT, null, counter);
+        assertEquals(ROWS, middle.getTotalElements());
+        assertTrue(middle.hasNext());
+        assertEquals(1, countCalls.get());
+    }
+
+    @Test
+    @DisplayName("CACHED_APPROX - 같은 키의 COUNT 는 TTL 동안 재사용, evictCounts(prefix) 로 그 영역만 버림")
+    void cachedApprox() {
+        Paginator paginator = new Paginator(30);
+
+        Page<Long> first = paginator.page(query(ROWS), PageRequest.of(0, 10), CountStrategy.CACHED_APPROX, "board:t:a", counter);
+        Page<Long> again = paginator.page(query(ROWS), PageRequest.of(1, 10), CountStrategy.CACHED_APPROX, "board:t:a", counter);
+        assertEquals(ROWS, first.getTotalElements());
+        assertEquals(ROWS, again.getTotalElements());
+        assertTrue(again.hasNext());
+        assertEquals(1, countCalls.get());
+
+        // 캐시된 개수는 근사값 - 실제 개수가 바뀌어도 TTL 안에서는 옛 값
+        assertEquals(ROWS, paginator.cachedCount("board:t:a", () -> 99L));
+        paginator.cachedCount("item:n:a", counter);
+        assertEquals(2, countCalls.get());
+
+        // board 영역만 버림 -> board 키는 다시 COUNT, item 키는 그대로
+        paginator.evictCounts("board:");
+        assertEquals(99L, paginator.cachedCount("board:t:a", () -> 99L));
+        assertEquals(ROWS, paginator.cachedCount("item:n:a", () -> 99L));
+
+        // 마지막 페이지는 SKIP_WHEN_SHORT 처럼 COUNT 없이 계산 (캐시의 99 가 아니라 실제 25)
+        Page<Long> last = paginator.page(query(ROWS), PageRequest.of(2, 10), CountStrategy.CACHED_APPROX, "board:t:a", counter);
+        assertEquals(ROWS, last.getTotalElements());
+        assertFalse(last.hasNext());
+        assertEquals(2, countCalls.get());
+    }
+
+    @Test
+    @DisplayName("CACHED_APPROX - TTL 이 지나면 COUNT 를 다시 실행")
+    void cachedApproxExpires() {
+        Paginator paginator = new Paginator(0); // TTL 0 -> 매번 만료
+
+        paginator.page(query(ROWS), PageRequest.of(0, 10), CountStrategy.CACHED_APPROX, "board:t:a", counter);
+        paginator.page(query(ROWS), PageRequest.of(0, 10), CountStrategy.CACHED_APPROX, "board:t:a", counter);
+        assertEquals(2, countCalls.get());
+    }
+
+    @Test
+    @DisplayName("HAS_NEXT_ONLY - COUNT 없이 한 건 더 읽고, 다음 페이지가 있으면 total 은 '지금까지 + 1'")
+    void hasNextOnly() {
+        Paginator paginator = new Paginator(30);
+
+        Page<Long> first = paginator.page(query(ROWS), PageRequest.of(0, 10), CountStrategy.HAS_NEXT_ONLY, null, counter);
+        assertEquals(10, first.getNumberOfElements());
+        assertEquals(11, first.getTotalElements());
+        assertTrue(first.hasNext());
+
+        Page<Long> middle = paginator.page(query(ROWS), PageRequest.of(1, 10), CountStrategy.HAS_NEXT_ONLY, null, counter);
+        assertEquals(List.of(11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L), middle.getContent());
+        assertEquals(21, middle.getTotalElements());
+        assertTrue(middle.hasNext());
+
+        Page<Long> last = paginator.page(query(ROWS), PageRequest.of(2, 10), CountStrategy.HAS_NEXT_ONLY, null, counter);
+        assertEquals(5, last.getNumberOfElements());
+        assertEquals(ROWS, last.getTotalElements());
+        assertFalse(last.hasNext());
+
+        // 딱 맞아떨어지는 마지막 페이지도 다음 페이지 없음
+        Page<Long> exactEnd = paginator.page(query(20), PageRequest.of(1, 10), CountStrategy.HAS_NEXT_ONLY, null, counter);
+        assertEquals(20, exactEnd.getTotalElements());
+        assertFalse(exactEnd.hasNext());
+        assertEquals(0, countCalls.get());
+    }
+
+    // 1..rows 를 offset/limit 대로 잘라서 돌려주는 쿼리 mock
+    @SuppressWarnings("unchecked")
+    private static JPQLQuery<Long> query(int rows) {
+        List<Long> all = LongStream.rangeClosed(1, rows).boxed().toList();
+        JPQLQuery<Long> query = mock(JPQLQuery.class);
+        long[] offsetLimit = {0, Long.MAX_VALUE};
+        when(query.offset(anyLong())).thenAnswer(invocation -> {
+            offsetLimit[0] = invocation.getArgument(0);
+            return query;
+        });
+        when(query.limit(anyLong())).thenAnswer(invocation -> {
+            offsetLimit[1] = invocation.getArgument(0);
+            return query;
+        });
+        when(query.fetch()).thenAnswer(invocation -> {
+            int from = (int) Math.min(offsetLimit[0], all.size());
+            int to = from + (int) Math.min(offsetLimit[1], all.size() - from);
+            return all.subList(from, to);
+        });
+        return query;
+    }
+}
@@ -0,0 +1,107 @@
+package org.mbc.czo.search;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mbc.czo.function.boarduser.search.BoardSearchIndex;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 검색 인덱스 결과가 기존 like '%검색어%' (contains, 대소문자 무시) 와 같은지 - DB 없이 메모리 인덱스만
+public class BoardSearchIndexTest {
+
+    // bno, title, content, writer
+    private static final List<Object[]> ROWS = List.of(
+            new Object[]{1L, "iPhone 15 Pro 후기", "아이폰15 프로 써본 후기입니다", "hong12"},
+            new Object[]{2L, "갤럭시 S15 샀어요", "galaxy S15 울트라 배터리 좋아요", "Hong"},
+            new Object[]{3L, "자유게시판 공지", "게시판 이용 규칙 안내 (phone 번호 금지)", "관리자"},
+            new Object[]{4L, "질문 있어요", "아이폰 vs 갤럭시 어떤 게 좋나요?", "kim_15"},
+            new Object[]{5L, "Photo 공유", "사진 올립니다  두 칸 띄움", "PHOTOgrapher"});
+
+    private static final List<String> KEYWORDS = List.of(
+            "hong", "HONG", "ong1", "pho", "Pho", "15", "S15", "아이폰", "폰15", "폰 1", "갤럭시 S",
+            "게시판", "시판 이", "두 칸", "  ", "e 1", "없는말", "_1", "요?");
+
+    private static final List<String[]> TYPES = List.of(
+            new String[]{"t"}, new String[]{"c"}, new String[]{"w"},
+            new String[]{"t", "c", "w"}, new String[]{"제목", "작성자"});
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager em = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        when(em.createQuery(anyString(), eq(Object[].class))
+                .setParameter(anyString(), any())
+                .setMaxResults(anyInt())
+                .getResultList()).thenReturn(ROWS, List.of());
+        index = new BoardSearchIndex(mock(PlatformTransactionManager.class), em, true, 1000);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("영문/숫자 일부, 한글, 공백 포함 검색어 모두 like '%검색어%' 와 같은 글을 찾음")
+    void substringParityWithLike() {
+        for (String keyword : KEYWORDS) {
+            for (String[] types : TYPES) {
+                List<Long> found = index.search(types, keyword);
+                assertNotNull(found, "인덱스 사용 가능해야 함: " + keyword);
+                assertEquals(like(types, keyword), found.stream().sorted().toList(),
+                        "types=" + String.join(",", types) + ", keyword='" + keyword + "'");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한 글자/빈 검색어는 인덱스를 쓰지 않고 null (호출한 쪽에서 like)")
+    void shortKeywordFallsBack() {
+        assertNull(index.search(new String[]{"t"}, "폰"));
+        assertNull(index.search(new String[]{"t"}, "a"));
+        assertNull(index.search(new String[]{"t"}, ""));
+        assertNull(index.search(new String[]{"t"}, null));
+    }
+
+    @Test
+    @DisplayName("스니펫은 검색어 부분만 <mark>, 나머지는 HTML 이스케이프")
+    void snippetMarksKeyword() {
+        Map<Long, String> snippets = index.snippets(new String[]{"c"}, "S15", List.of(2L));
+        assertEquals("galaxy <mark>S15</mark> 울트라 배터리 좋아요", snippets.get(2L));
+    }
+
+    // 기존 like '%keyword%' 조건 (MariaDB 기본 collation 처럼 대소문자 무시), bno 오름차순
+    private static List<Long> like(String[] types, String keyword) {
+        String needle = keyword.toLowerCase();
+        List<Long> bnos = new ArrayList<>();
+        for (Object[] row : ROWS) {
+            for (String type : types) {
+                int column = switch (type) {
+                    case "t", "제목" -> 1;
+                    case "c", "내용" -> 2;
+                    default -> 3;
+                };
+                if (((String) row[column]).toLowerCase().contains(needle)) {
+                    bnos.add((Long) row[0]);
+                    break;
+                }
+            }
+        }
+        return bnos;
+    }
+}
@@ -0,0 +1,94 @@
+package org.mbc.czo.search;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mbc.czo.function.product.constant.ItemSellStatus;
+import org.mbc.czo.function.product.service.ItemSearchIndex;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 상품명 검색 인덱스 결과가 기존 itemNm like '%검색어%' 와 같은지 - DB 없이 메모리 인덱스만
+public class ItemSearchIndexTest {
+
+    // id, itemNm, itemSellStatus
+    private static final List<Object[]> ROWS = List.of(
+            new Object[]{1L, "galaxy S15", ItemSellStatus.SELL},
+            new Object[]{2L, "Galaxy Tab S9", ItemSellStatus.SOLD_OUT},
+            new Object[]{3L, "아이폰15 프로", ItemSellStatus.SELL},
+            new Object[]{4L, "무선 이어폰", ItemSellStatus.SELL},
+            new Object[]{5L, "USB-C 케이블 1.5m", ItemSellStatus.SOLD_OUT});
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager em = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        when(em.createQuery(anyString(), eq(Object[].class))
+                .setParameter(anyString(), any())
+                .setMaxResults(anyInt())
+                .getResultList()).thenReturn(ROWS, List.of());
+        index = new ItemSearchIndex(mock(PlatformTransactionManager.class), em, true, 1000);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("영문/숫자 일부 검색어도 like '%검색어%' 와 같은 상품을 찾음")
+    void substringParityWithLike() {
+        for (String query : List.of("gal", "GAL", "15", "S1", "laxy s", "이폰", "폰1", "c 케", "1.5", "없는상품")) {
+            assertEquals(like(query, null), sorted(index.search(query, null)), "query='" + query + "'");
+            for (ItemSellStatus status : ItemSellStatus.values()) {
+                assertEquals(like(query, status), sorted(index.search(query, status)), "query='" + query + "', " + status);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("검색 결과가 max-hits 를 넘으면 잘린 목록 대신 null (like 검색으로 전체 개수)")
+    void overMaxHitsFallsBack() {
+        EntityManager em = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        when(em.createQuery(anyString(), eq(Object[].class))
+                .setParameter(anyString(), any())
+                .setMaxResults(anyInt())
+                .getResultList()).thenReturn(ROWS, List.of());
+        ItemSearchIndex small = new ItemSearchIndex(mock(PlatformTransactionManager.class), em, true, 1);
+        small.rebuild();
+        try {
+            assertNull(small.search("ga", null));         // 2건
+            assertEquals(List.of(3L), small.search("아이폰", null)); // 1건
+        } finally {
+            small.close();
+        }
+    }
+
+    private static List<Long> like(String query, ItemSellStatus status) {
+        List<Long> ids = new ArrayList<>();
+        for (Object[] row : ROWS) {
+            if (((String) row[1]).toLowerCase().contains(query.toLowerCase()) && (status == null || status == row[2])) {
+                ids.add((Long) row[0]);
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        assertNotNull(ids);
+        return ids.stream().sorted().toList();
+    }
+}
@@ -0,0 +1,99 @@
+package org.mbc.czo.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mbc.czo.function.common.config.SessionConfig;
+import org.mbc.czo.function.common.session.SessionAttributeCodec;
+import org.mbc.czo.function.member.security.dto.MemberSecurityDTO;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Redis 세션 속성 변환 테스트 (Redis 없이)
+public class SessionAttributeCodecTest {
+
+    private SessionAttributeCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        codec = new SessionAttributeCodec(SessionConfig.sessionObjectMapper(classLoader), classLoader);
+    }
+
+    @Test
+    @DisplayName("폼 로그인 SecurityContext 는 JSON 으로 저장하고, 비밀번호/소셜 원본 정보는 빠짐")
+    void formLoginContext() {
+        MemberSecurityDTO member = member();
+        SecurityContext context = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities()));
+
+        String encoded = codec.encode(context);
+        assertTrue(encoded.startsWith("j:"));
+        assertFalse(encoded.contains("secret-hash"));
+        assertFalse(encoded.contains("kakao-raw"));
+
+        String jdk = Base64.getEncoder().encodeToString(new SerializingConverter().convert(context));
+        assertTrue(encoded.length() < jdk.length(), "JSON " + encoded.length() + " / JDK " + jdk.length());
+
+        SecurityContext decoded = (SecurityContext) codec.decode(encoded);
+        assertTrue(decoded.getAuthentication().isAuthenticated());
+        MemberSecurityDTO principal = (MemberSecurityDTO) decoded.getAuthentication().getPrincipal();
+        assertEquals("user1", principal.getMid());
+        assertEquals("user1", principal.getUsername());
+        assertEquals("user1@test.com", principal.getMemail());
+        assertEquals("홍길동", principal.getMname());
+        assertEquals("서울시", principal.getMaddress());
+        assertEquals(100L, principal.getMmileage());
+        assertEquals("/uploads/profile/a.png", principal.getProfileImagePath());
+        assertNull(principal.getPassword());
+        assertNull(principal.getMpassword());
+        assertEquals(Map.of(), principal.getAttributes());
+        assertEquals(List.of("ROLE_USER"), decoded.getAuthentication().getAuthorities().stream()
+                .map(authority -> authority.getAuthority()).toList());
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 SecurityContext 도 JSON 으로 저장")
+    void socialLoginContext() {
+        MemberSecurityDTO member = member();
+        SecurityContext context = new SecurityContextImpl(
+                new OAuth2AuthenticationToken(member, member.getAuthorities(), "kakao"));
+
+        String encoded = codec.encode(context);
+        assertTrue(encoded.startsWith("j:"));
+
+        SecurityContext decoded = (SecurityContext) codec.decode(encoded);
+        OAuth2AuthenticationToken token = (OAuth2AuthenticationToken) decoded.getAuthentication();
+        assertEquals("kakao", token.getAuthorizedClientRegistrationId());
+        assertEquals("user1", ((MemberSecurityDTO) token.getPrincipal()).getMid());
+    }
+
+    @Test
+    @DisplayName("그 외 값은 타입이 유지되도록 JDK 직렬화")
+    void otherValues() {
+        assertEquals("hello", codec.decode(codec.encode("hello")));
+
+        String encodedLong = codec.encode(5L);
+        assertTrue(encodedLong.startsWith("s:"));
+        assertEquals(5L, codec.decode(encodedLong));
+    }
+
+    private static MemberSecurityDTO member() {
+        MemberSecurityDTO member = new MemberSecurityDTO("user1", "secret-hash", "user1@test.com", false, false,
+                "홍길동", "010-0000-0000", "12345", "서울시", "101호", 100L,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        member.setProfileImagePath("/uploads/profile/a.png");
+        member.setMSocialprops(Map.of("nickname", "kakao-raw"));
+        return member;
+    }
+}